@@ -0,0 +1,105 @@
+-- reward_history 일일 지급 여부 조회 벤치마크 (MySQL 8.0.18+, EXPLAIN ANALYZE)
+--
+-- 실행 예:
+--   mysql -u root -p < benchmark/reward_history_lookup.sql
+--
+-- 별도 DB(mystockfolio_bench)에 reward_history와 같은 구조의 테이블을 만들고 1,000만 행을 채운 뒤
+-- 아래 세 가지를 같은 조건으로 비교한다.
+--   A. 기존 쿼리 (DATE(created_at) = ?) + 기존 인덱스 (user_id), (created_at)
+--   B. 구간 쿼리 (created_at >= ? AND created_at < ?) + 기존 인덱스
+--   C. 구간 쿼리 + 복합 인덱스 (user_id, activity_type, created_at), 단건 / 민팅 묶음(IN) 조회
+-- EXPLAIN ANALYZE 의 actual time, rows(읽은 행 수)와 사용 인덱스(key)를 비교한다.
+-- 데이터 생성은 수 분 정도 걸린다.
+
+DROP DATABASE IF EXISTS mystockfolio_bench;
+CREATE DATABASE mystockfolio_bench DEFAULT CHARSET utf8mb4 COLLATE utf8mb4_unicode_ci;
+USE mystockfolio_bench;
+
+-- 운영 테이블과 같은 컬럼 (외래키는 데이터 생성 속도를 위해 생략, 인덱스는 단계별로 생성)
+CREATE TABLE reward_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    wallet_address VARCHAR(42) NOT NULL,
+    activity_type VARCHAR(50) NOT NULL,
+    amount DOUBLE NOT NULL,
+    transaction_hash VARCHAR(66) NULL,
+    balance_score DOUBLE NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+CREATE TABLE digits (d INT PRIMARY KEY);
+INSERT INTO digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9);
+
+-- 1,000만 행: 사용자 10,000명 x 활동 5종, 최근 약 2년에 분산
+INSERT INTO reward_history (user_id, wallet_address, activity_type, amount, transaction_hash, created_at)
+SELECT
+    n % 10000 + 1,
+    CONCAT('0x', LPAD(HEX(n % 10000 + 1), 40, '0')),
+    ELT((n DIV 10000) % 5 + 1, 'asset_added', 'portfolio_updated', 'dashboard_analysis', 'login', 'achievement'),
+    10.0,
+    NULL,
+    TIMESTAMP('2024-01-01') + INTERVAL (n * 7) % (730 * 86400) SECOND
+FROM (
+    SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 + h.d * 1000000 AS n
+    FROM digits a, digits b, digits c, digits e, digits f, digits g, digits h
+) seq;
+
+ANALYZE TABLE reward_history;
+SELECT COUNT(*) AS total_rows FROM reward_history;
+
+-- 조회 대상: 데이터가 있는 날짜 하나와 민팅 묶음 크기(500명)의 사용자 목록
+SET @day := DATE('2025-06-15');
+SET @from := TIMESTAMP(@day);
+SET @to := TIMESTAMP(@day + INTERVAL 1 DAY);
+
+-- ----------------------------------------
+-- A/B. 기존 인덱스
+-- ----------------------------------------
+CREATE INDEX idx_reward_history_user_id ON reward_history(user_id);
+CREATE INDEX idx_reward_history_created_at ON reward_history(created_at);
+
+-- A. DATE() 함수 적용: created_at 인덱스 범위 탐색 불가 → user_id 인덱스로 사용자 전체 이력(약 1,000행) 확인
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM reward_history
+WHERE user_id = 4242 AND activity_type = 'dashboard_analysis' AND DATE(created_at) = @day;
+
+-- B. 반열림 구간: created_at 범위 탐색 가능하지만 user_id 와 함께 쓰려면 인덱스 병합/추가 필터 필요
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM reward_history
+WHERE user_id = 4242 AND activity_type = 'dashboard_analysis' AND created_at >= @from AND created_at < @to;
+
+-- A (묶음). 기존 방식은 사용자마다 위 쿼리를 한 번씩 실행 → 500회 왕복
+-- B (묶음). 구간 + IN
+EXPLAIN ANALYZE
+SELECT DISTINCT user_id FROM reward_history
+WHERE user_id BETWEEN 1 AND 500 AND activity_type = 'dashboard_analysis'
+  AND created_at >= @from AND created_at < @to;
+
+-- ----------------------------------------
+-- C. 복합 인덱스 (user_id, activity_type, created_at)
+-- ----------------------------------------
+CREATE INDEX idx_reward_history_user_activity_created ON reward_history(user_id, activity_type, created_at);
+DROP INDEX idx_reward_history_user_id ON reward_history;
+ANALYZE TABLE reward_history;
+
+-- 단건: 세 컬럼 모두 인덱스 범위 탐색, 해당 날짜 행만 읽음 (커버링 인덱스)
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM reward_history
+WHERE user_id = 4242 AND activity_type = 'dashboard_analysis' AND created_at >= @from AND created_at < @to;
+
+-- 비교: 복합 인덱스가 있어도 DATE() 를 쓰면 created_at 구간으로 좁히지 못함
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM reward_history
+WHERE user_id = 4242 AND activity_type = 'dashboard_analysis' AND DATE(created_at) = @day;
+
+-- 묶음: 애플리케이션이 실제로 실행하는 형태 (RewardHistoryRepository.findRewardedUserIds)
+EXPLAIN ANALYZE
+SELECT DISTINCT user_id FROM reward_history
+WHERE user_id IN (
+        SELECT a.d + b.d * 10 + c.d * 100 + 1 FROM digits a, digits b, digits c WHERE a.d + b.d * 10 + c.d * 100 < 500
+    )
+  AND activity_type = 'dashboard_analysis'
+  AND created_at >= @from AND created_at < @to;
+
+-- 정리
+-- DROP DATABASE mystockfolio_bench;
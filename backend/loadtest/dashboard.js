@@ -0,0 +1,54 @@
+// 대시보드 동시 사용자 부하 테스트 (k6)
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<JWT> loadtest/dashboard.js
+//   k6 run -e TOKENS=<JWT1>,<JWT2>,... -e VUS=1000 -e DURATION=2m loadtest/dashboard.js
+//
+// 플랫폼 스레드(기본) / 가상 스레드 모드를 각각 띄운 뒤 같은 조건으로 실행해
+// http_reqs(처리량), http_req_duration(p95/p99), http_req_failed 를 비교한다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKENS = (__ENV.TOKENS || __ENV.TOKEN || '').split(',').filter((t) => t.length > 0);
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const THINK_TIME_SECONDS = parseFloat(__ENV.THINK_TIME || '1');
+
+export const options = {
+  scenarios: {
+    dashboard: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: DURATION, target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(95)<2000'],
+  },
+};
+
+export function setup() {
+  if (TOKENS.length === 0) {
+    throw new Error('TOKEN 또는 TOKENS 환경변수로 JWT를 지정하세요.');
+  }
+}
+
+export default function () {
+  // 가상 사용자별로 토큰을 나눠 사용 (여러 계정 분산)
+  const token = TOKENS[(__VU - 1) % TOKENS.length];
+  const params = { headers: { Authorization: `Bearer ${token}` }, tags: { name: 'dashboard_stats' } };
+
+  const res = http.get(`${BASE_URL}/api/dashboard/stats`, params);
+  check(res, {
+    'status is 200': (r) => r.status === 200,
+  });
+
+  sleep(THINK_TIME_SECONDS);
+}
@@ -0,0 +1,117 @@
+package com.mystockfolio.backend.benchmark;
+
+import com.mystockfolio.backend.config.JwtAuthenticationFilter;
+import com.mystockfolio.backend.domain.entity.User;
+import com.mystockfolio.backend.repository.UserRepository;
+import com.mystockfolio.backend.service.CustomUserDetailsService;
+import com.mystockfolio.backend.util.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JWT 인증 필터 경로 벤치마크
+ * - legacyValidateThenParse: 기존 방식 (validateToken + getEmailFromToken → 서명 검증 2회)
+ * - parseOnce*: 검증 1회 / 검증 결과 캐시 적중
+ * - filter*: JwtAuthenticationFilter 전체 (principal 캐시는 적중 상태, DB 조회 없음)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyWhichIsLongEnoughForHmacSha256Signing";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private String token;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() throws Exception {
+        uncachedProvider = tokenProvider(0);
+        cachedProvider = tokenProvider(10000);
+        token = cachedProvider.generateToken(1L);
+
+        User user = User.builder()
+                .email("bench@mystockfolio.local")
+                .nickname("bench")
+                .build();
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        // findById만 응답하는 UserRepository (principal 캐시 적재용)
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> "findById".equals(method.getName()) ? Optional.of(user) : null);
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, event -> { });
+        ReflectionTestUtils.setField(userDetailsService, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(userDetailsService, "maxEntries", 10000);
+        ReflectionTestUtils.setField(userDetailsService, "adminEmails", Set.of());
+        userDetailsService.init();
+
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider, userDetailsService);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider, userDetailsService);
+
+        request = new MockHttpServletRequest("GET", "/api/dashboard/stats");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // 캐시 적재 (인증이 설정되지 않으면 필터가 예외 처리 경로만 측정하게 되므로 바로 실패)
+        cachedFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            throw new IllegalStateException("Warm-up request was not authenticated");
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    private static JwtTokenProvider tokenProvider(int cacheEntries) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxEntries", cacheEntries);
+        ReflectionTestUtils.setField(provider, "claimsCacheTtlSeconds", 300L);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public void legacyValidateThenParse(Blackhole bh) {
+        bh.consume(uncachedProvider.validateToken(token));
+        bh.consume(uncachedProvider.getEmailFromToken(token));
+    }
+
+    @Benchmark
+    public Object parseOnceUncached() {
+        return uncachedProvider.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public Object parseOnceCached() {
+        return cachedProvider.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public void filterUncachedClaims() throws Exception {
+        uncachedFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterCachedClaims() throws Exception {
+        cachedFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+    }
+}
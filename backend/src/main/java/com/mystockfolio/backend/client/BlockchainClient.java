@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -41,32 +42,30 @@ public class BlockchainClient {
     }
 
     /**
-     * 토큰 리워드 민팅
+     * 토큰 리워드 일괄 민팅 (트랜잭션 1건)
+     * - 호출 측에서 재시도 여부를 판단하도록 오류를 그대로 전달
      */
-    public Mono<BlockchainDto.MintRewardResponse> mintReward(
-            String toAddress, 
-            Double amount, 
-            String activity) {
-        
+    public Mono<BlockchainDto.BatchMintRewardResponse> batchMintReward(
+            List<String> recipients,
+            List<Double> amounts,
+            List<String> activities) {
+
         Map<String, Object> requestBody = Map.of(
-            "toAddress", toAddress,
-            "amount", amount,
-            "activity", activity
+            "recipients", recipients,
+            "amounts", amounts,
+            "activities", activities
         );
 
         return webClient.post()
-                .uri("/api/blockchain/token/mint")
+                .uri("/api/blockchain/token/batch-mint")
                 .bodyValue(requestBody)
                 .retrieve()
                 .onStatus(status -> status.isError(), response -> {
-                    log.error("Error calling Blockchain API for mint: {}", response.statusCode());
+                    log.error("Error calling Blockchain API for batch mint: {}", response.statusCode());
                     return response.createException();
                 })
-                .bodyToMono(BlockchainDto.MintRewardResponse.class)
-                .onErrorResume(e -> {
-                    log.error("Failed to mint reward: {}", e.getMessage());
-                    return Mono.empty();
-                });
+                .bodyToMono(BlockchainDto.BatchMintRewardResponse.class)
+                .doOnError(e -> log.error("Failed to batch mint rewards ({}건): {}", recipients.size(), e.getMessage()));
     }
 
     /**
@@ -11,7 +11,9 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -59,6 +61,51 @@ public class CrawlerClient {
                 });
     }
 
+    // 한국 주식 시세 일괄 조회 (티커 → 현재가)
+    // 반환 Map의 키는 요청한 티커 그대로이며, 시세 조회에 실패한 티커는 포함되지 않음
+    public Mono<Map<String, Double>> getKRStockQuotes(List<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Mono.just(new HashMap<>());
+        }
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/crawler/kr-stock/quotes")
+                        .queryParam("tickers", String.join(",", tickers))
+                        .build())
+                .retrieve()
+                .onStatus(status -> status.isError(), response -> {
+                    log.error("Error calling CrawlerService for KR stock batch quote: {}", response.statusCode());
+                    return response.createException();
+                })
+                .bodyToMono(new ParameterizedTypeReference<List<MarketDataDto.KRStockQuoteResponse>>() {})
+                .map(quotes -> {
+                    Map<String, Double> fetched = new HashMap<>();
+                    for (MarketDataDto.KRStockQuoteResponse quote : quotes) {
+                        if (quote.getTicker() != null && quote.getCurrent_price() != null && quote.getCurrent_price() > 0) {
+                            fetched.put(quote.getTicker().toUpperCase(), quote.getCurrent_price());
+                        }
+                    }
+                    Map<String, Double> prices = new HashMap<>();
+                    for (String ticker : tickers) {
+                        Double price = fetched.get(ticker.toUpperCase());
+                        if (price != null) {
+                            prices.put(ticker, price);
+                        }
+                    }
+                    return prices;
+                })
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(500))
+                        .filter(throwable -> !(throwable instanceof WebClientResponseException) ||
+                                ((WebClientResponseException) throwable).getStatusCode().is5xxServerError())
+                        .doBeforeRetry(retrySignal -> log.debug("KR stock batch quote retry attempt {} for {} tickers",
+                                retrySignal.totalRetries() + 1, tickers.size()))
+                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()))
+                .onErrorResume(e -> {
+                    log.error("Failed to connect to CrawlerService for KR stock batch quote: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
     // 한국 주식 기본 정보 조회
     public Mono<MarketDataDto.KRStockInfoResponse> getKRStockInfo(String ticker) {
         return webClient.get()
@@ -11,6 +11,9 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -58,6 +61,51 @@ public class MarketDataClient {
                 });
     }
 
+    // 1-1. 실시간 시세 일괄 조회 (FastAPI의 /api/market/prices 엔드포인트 호출)
+    // 반환 Map의 키는 요청한 티커 그대로이며, 가격 조회에 실패한 티커는 포함되지 않음
+    public Mono<Map<String, Double>> getCurrentPrices(List<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Mono.just(new HashMap<>());
+        }
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/market/prices")
+                        .queryParam("tickers", String.join(",", tickers))
+                        .build())
+                .retrieve()
+                .onStatus(status -> status.isError(), response -> {
+                    log.error("Error calling MarketDataService for batch price: {}", response.statusCode());
+                    return response.createException();
+                })
+                .bodyToMono(new ParameterizedTypeReference<List<MarketDataDto.PriceResponse>>() {})
+                .map(responses -> {
+                    Map<String, Double> fetched = new HashMap<>();
+                    for (MarketDataDto.PriceResponse resp : responses) {
+                        if (resp.getTicker() != null && resp.getPrice() != null && resp.getPrice() > 0) {
+                            fetched.put(resp.getTicker().toUpperCase(), resp.getPrice());
+                        }
+                    }
+                    Map<String, Double> prices = new HashMap<>();
+                    for (String ticker : tickers) {
+                        Double price = fetched.get(ticker.toUpperCase());
+                        if (price != null) {
+                            prices.put(ticker, price);
+                        }
+                    }
+                    return prices;
+                })
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(500))
+                        .filter(throwable -> !(throwable instanceof WebClientResponseException) ||
+                                ((WebClientResponseException) throwable).getStatusCode().is5xxServerError())
+                        .doBeforeRetry(retrySignal -> log.debug("Batch price request retry attempt {} for {} tickers",
+                                retrySignal.totalRetries() + 1, tickers.size()))
+                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()))
+                .onErrorResume(e -> {
+                    log.error("Failed to connect to MarketDataService for batch price: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
     // 2. 차트 데이터 조회 (FastAPI의 /api/market/chart 엔드포인트 호출)
     public Mono<MarketDataDto.ChartResponse> getHistoricalChart(String ticker, String period) {
         return webClient.get()
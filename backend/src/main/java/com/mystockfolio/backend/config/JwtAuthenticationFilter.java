@@ -2,6 +2,7 @@ package com.mystockfolio.backend.config;
 
 import com.mystockfolio.backend.service.CustomUserDetailsService;
 import com.mystockfolio.backend.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,20 +52,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // JWT subject가 이메일 또는 사용자 ID(문자열)일 수 있음
-                String subject = tokenProvider.getEmailFromToken(jwt);
+            // 서명 검증과 Claims 파싱을 한 번에 (최근 검증된 토큰은 캐시에서 응답)
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseValidClaims(jwt) : null;
 
-                UserDetails userDetails;
-                if (subject != null && subject.contains("@")) {
-                    userDetails = customUserDetailsService.loadUserByUsername(subject);
-                } else {
+            if (claims != null) {
+                // JWT subject가 이메일 또는 사용자 ID(문자열)일 수 있음 (principal 캐시 적중 시 DB 조회 없음)
+                String subject = claims.getSubject();
+
+                UserDetails userDetails = null;
+                if (subject != null) {
                     try {
-                        Long userId = Long.parseLong(subject);
-                        userDetails = customUserDetailsService.loadUserById(userId);
+                        userDetails = customUserDetailsService.loadPrincipal(subject);
                     } catch (NumberFormatException nfe) {
                         log.warn("JWT subject 형식이 올바르지 않습니다: {}", subject);
-                        userDetails = null;
                     }
                 }
 
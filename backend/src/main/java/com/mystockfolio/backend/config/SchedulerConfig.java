@@ -0,0 +1,122 @@
+package com.mystockfolio.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SchedulerConfig {
+
+    // JDBC 전용 스레드 수: DB 커넥션 풀(Hikari 기본 10) 크기에 맞춤
+    @Value("${dashboard.jdbc-scheduler.thread-cap:10}")
+    private int jdbcThreadCap;
+
+    // 스레드가 모두 사용 중일 때 대기 가능한 작업 수 (초과 시 즉시 실패)
+    @Value("${dashboard.jdbc-scheduler.queue-cap:1000}")
+    private int jdbcQueueCap;
+
+    @Value("${achievement.executor.core-size:2}")
+    private int achievementCoreSize;
+
+    @Value("${achievement.executor.max-size:4}")
+    private int achievementMaxSize;
+
+    @Value("${achievement.executor.queue-capacity:500}")
+    private int achievementQueueCapacity;
+
+    // 야간 성과 일괄 판정에서 동시에 처리할 구간 수 (DB 커넥션 풀보다 충분히 작게)
+    @Value("${achievement.sweep.concurrency:2}")
+    private int sweepConcurrency;
+
+    /**
+     * 리액티브 파이프라인에서 블로킹 JPA 조회를 실행하는 제한된 스케줄러
+     * - 요청 스레드를 점유하지 않고, 커넥션 풀보다 많은 스레드가 커넥션을 기다리지 않도록 제한
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler() {
+        return Schedulers.newBoundedElastic(jdbcThreadCap, jdbcQueueCap, "jdbc");
+    }
+
+    /*
+     * 기본 실행기(@Async, MVC 비동기 응답) / 기본 스케줄러(@Scheduled)
+     * - 아래 성과 판정 전용 빈(Executor, TaskScheduler)이 있으면 Boot 자동 구성이 물러나므로 같은 방식으로 직접 선언
+     * - Boot와 동일하게 spring.threads.virtual.enabled=true면 가상 스레드 실행기/스케줄러,
+     *   아니면 스레드 풀 (spring.task.execution.* / spring.task.scheduling.* 설정 그대로 적용)
+     */
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler taskSchedulerVirtualThreads(SimpleAsyncTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 성과 판정 전용 실행기 (스레드/대기열 제한, 가득 차면 거절)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor achievementExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(achievementCoreSize);
+        executor.setMaxPoolSize(Math.max(achievementCoreSize, achievementMaxSize));
+        executor.setQueueCapacity(achievementQueueCapacity);
+        executor.setThreadNamePrefix("achievement-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * 성과 판정 요청 묶음(debounce) 타이머 (예약 작업은 메모리 연산만 수행하므로 스레드 1개)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler achievementDebounceScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("achievement-debounce-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+
+    /**
+     * 야간 성과 일괄 판정 작업 스레드 (동시에 처리할 사용자 ID 구간 수만큼, 구간 작업은 실행당 partitions개로 한정)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor achievementSweepExecutor() {
+        int threads = Math.max(1, sweepConcurrency);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("achievement-sweep-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
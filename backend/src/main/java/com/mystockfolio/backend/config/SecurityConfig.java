@@ -2,6 +2,7 @@ package com.mystockfolio.backend.config;
 
 import com.mystockfolio.backend.config.oauth2.CustomOAuth2UserService;
 import com.mystockfolio.backend.config.oauth2.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +53,11 @@ public class SecurityConfig {
                         .requestMatchers("/oauth2/**", "/login/oauth2/code/**").permitAll()
                         // 마켓 데이터 조회 API 허용 (인증 불필요)
                         .requestMatchers("/api/market/**").permitAll()
+                        // 운영 통계(캐시/인덱스/노드 정보)는 관리자만 (auth.admin-emails), Redis 연결 확인은 인증된 사용자
+                        .requestMatchers("/api/health/redis").authenticated()
+                        .requestMatchers("/api/health/**").hasRole("ADMIN")
+                        // 비동기(Mono) 응답 재디스패치: 최초 요청에서 이미 인증/인가 완료
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                         // ★★★ 나머지 모든 요청은 인증 필요 ★★★
                         .anyRequest().authenticated()
@@ -1,12 +1,8 @@
 package com.mystockfolio.backend.controller;
 
 import com.mystockfolio.backend.config.JwtAuthenticationFilter;
-import com.mystockfolio.backend.domain.entity.AchievementHistory;
-import com.mystockfolio.backend.domain.entity.RewardHistory;
-import com.mystockfolio.backend.dto.BlockchainDto;
-import com.mystockfolio.backend.repository.AchievementHistoryRepository;
-import com.mystockfolio.backend.repository.RewardHistoryRepository;
 import com.mystockfolio.backend.repository.UserRepository;
+import com.mystockfolio.backend.service.BlockchainHistoryService;
 import com.mystockfolio.backend.service.RewardService;
 import com.mystockfolio.backend.client.BlockchainClient;
 import lombok.RequiredArgsConstructor;
@@ -17,11 +13,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -31,8 +24,7 @@ import reactor.core.publisher.Mono;
 public class BlockchainController {
 
     private final RewardService rewardService;
-    private final RewardHistoryRepository rewardHistoryRepository;
-    private final AchievementHistoryRepository achievementHistoryRepository;
+    private final BlockchainHistoryService historyService;
     private final BlockchainClient blockchainClient;
     private final UserRepository userRepository;
 
@@ -129,11 +121,12 @@ public class BlockchainController {
     }
 
     /**
-     * GET /api/blockchain/reward/history
-     * 리워드 히스토리 조회
+     * GET /api/blockchain/reward/history?cursor=&size=
+     * 리워드 히스토리 조회 (최신순 커서 페이지, size 기본 20 / 최대 100)
      */
     @GetMapping("/reward/history")
-    public ResponseEntity<?> getRewardHistory() {
+    public ResponseEntity<?> getRewardHistory(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer size) {
         log.info("리워드 히스토리 조회 요청");
         
         Long userId = getCurrentUserId();
@@ -141,35 +134,16 @@ public class BlockchainController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        List<RewardHistory> histories = rewardHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        List<BlockchainDto.RewardHistoryItem> items = histories.stream()
-                .map(history -> {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                    return BlockchainDto.RewardHistoryItem.builder()
-                            .activity(history.getActivityType())
-                            .amount(history.getAmount())
-                            .timestamp(history.getCreatedAt().format(formatter))
-                            .transactionHash(history.getTransactionHash())
-                            .tokenType("ERC-20")
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        BlockchainDto.RewardHistoryResponse response = BlockchainDto.RewardHistoryResponse.builder()
-                .rewards(items)
-                .totalCount(items.size())
-                .build();
-
-        return ResponseEntity.ok().body(response);
+        return ResponseEntity.ok().body(historyService.getRewardHistory(userId, cursor, size));
     }
 
     /**
-     * GET /api/blockchain/achievement/history
-     * NFT 발행 히스토리 조회
+     * GET /api/blockchain/achievement/history?cursor=&size=
+     * NFT 발행 히스토리 조회 (최신순 커서 페이지, size 기본 20 / 최대 100)
      */
     @GetMapping("/achievement/history")
-    public ResponseEntity<?> getAchievementHistory() {
+    public ResponseEntity<?> getAchievementHistory(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size) {
         log.info("NFT 발행 히스토리 조회 요청");
         
         Long userId = getCurrentUserId();
@@ -177,28 +151,7 @@ public class BlockchainController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        List<AchievementHistory> histories = achievementHistoryRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        List<BlockchainDto.AchievementHistoryItem> items = histories.stream()
-                .map(history -> {
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                    return BlockchainDto.AchievementHistoryItem.builder()
-                            .achievementType(history.getAchievementType())
-                            .tokenId(history.getTokenId())
-                            .timestamp(history.getCreatedAt().format(formatter))
-                            .transactionHash(history.getTransactionHash())
-                            .tokenType("ERC-721")
-                            .metadata(history.getMetadata())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        BlockchainDto.AchievementHistoryResponse response = BlockchainDto.AchievementHistoryResponse.builder()
-                .achievements(items)
-                .totalCount(items.size())
-                .build();
-
-        return ResponseEntity.ok().body(response);
+        return ResponseEntity.ok().body(historyService.getAchievementHistory(userId, cursor, size));
     }
 
     /**
@@ -2,10 +2,14 @@ package com.mystockfolio.backend.controller;
 
 import com.mystockfolio.backend.config.JwtAuthenticationFilter;
 import com.mystockfolio.backend.dto.DashboardDto;
+import com.mystockfolio.backend.exception.UnauthorizedException;
 import com.mystockfolio.backend.service.DashboardService;
+import com.mystockfolio.backend.service.PortfolioValuationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,6 +18,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @Slf4j
 @RestController
@@ -22,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final PortfolioValuationService valuationService;
 
     /**
      * Security Context에서 현재 로그인한 사용자 ID 추출
@@ -41,71 +50,109 @@ public class DashboardController {
         return null;
     }
 
+    // 대시보드 조회 API는 Mono를 반환 (비동기 처리로 응답 대기 중 요청 스레드를 점유하지 않음)
+    // 사용자 ID는 SecurityContext가 유효한 요청 스레드에서 먼저 추출
+
     @GetMapping("/stats")
-    public ResponseEntity<DashboardDto.PortfolioStatsResponse> getPortfolioStats() {
+    public Mono<ResponseEntity<DashboardDto.PortfolioStatsResponse>> getPortfolioStats() {
         log.info("대시보드 통계 API 호출됨");
 
         Long userId = getCurrentUserId();
         if (userId == null) {
             log.error("인증된 사용자 ID를 찾을 수 없습니다");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         log.info("사용자 ID: {}의 대시보드 통계 조회 시작", userId);
-        DashboardDto.PortfolioStatsResponse response = dashboardService.getPortfolioStats(userId);
-        log.info("대시보드 통계 응답 전송 완료 - 총 자산: {}, 수익률: {}%", 
-            response.getTotalMarketValue(), response.getTotalReturnRate());
-        return ResponseEntity.ok(response);
+        return dashboardService.getPortfolioStatsReactive(userId)
+                .map(response -> {
+                    log.info("대시보드 통계 응답 전송 완료 - 총 자산: {}, 수익률: {}%", 
+                        response.getTotalMarketValue(), response.getTotalReturnRate());
+                    return ResponseEntity.ok(response);
+                });
     }
 
     @GetMapping("/heatmap")
-    public ResponseEntity<DashboardDto.HeatmapResponse> getHeatmap() {
+    public Mono<ResponseEntity<DashboardDto.HeatmapResponse>> getHeatmap() {
         log.info("히트맵 분석 API 호출됨");
 
         Long userId = getCurrentUserId();
         if (userId == null) {
             log.error("인증된 사용자 ID를 찾을 수 없습니다");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         log.info("사용자 ID: {}의 히트맵 분석 조회 시작", userId);
-        DashboardDto.HeatmapResponse response = dashboardService.getHeatmap(userId);
-        log.info("히트맵 분석 응답 전송 완료 - 섹터 개수: {}", 
-            response.getSectors() != null ? response.getSectors().size() : 0);
-        return ResponseEntity.ok(response);
+        return dashboardService.getHeatmapReactive(userId)
+                .map(response -> {
+                    log.info("히트맵 분석 응답 전송 완료 - 섹터 개수: {}", 
+                        response.getSectors() != null ? response.getSectors().size() : 0);
+                    return ResponseEntity.ok(response);
+                });
     }
 
     @GetMapping("/risk")
-    public ResponseEntity<DashboardDto.RiskMetricsResponse> getRiskMetrics() {
-        log.info("위험 지표 계산 API 호출됨 (동기 방식)");
+    public Mono<ResponseEntity<DashboardDto.RiskMetricsResponse>> getRiskMetrics() {
+        log.info("위험 지표 계산 API 호출됨 (논블로킹)");
 
         Long userId = getCurrentUserId();
         if (userId == null) {
             log.error("인증된 사용자 ID를 찾을 수 없습니다");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         log.info("사용자 ID: {}의 위험 지표 계산 시작", userId);
-        DashboardDto.RiskMetricsResponse response = dashboardService.getRiskMetrics(userId);
-        log.info("위험 지표 계산 응답 전송 완료 - 변동성: {}%, MDD: {}%, 위험 수준: {}", 
-            response.getVolatility(), response.getMdd(), response.getRiskLevel());
-        return ResponseEntity.ok(response);
+        return dashboardService.getRiskMetricsReactive(userId)
+                .map(response -> {
+                    log.info("위험 지표 계산 응답 전송 완료 - 변동성: {}%, MDD: {}%, 위험 수준: {}", 
+                        response.getVolatility(), response.getMdd(), response.getRiskLevel());
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    /**
+     * 실시간 포트폴리오 평가 스트림 (Server-Sent Events)
+     * - snapshot(연결 직후 전체) → delta(바뀐 자산만, 500ms 단위로 묶음) / reset(통계 재조회 필요)
+     * - 25초마다 keepalive 주석 전송 (프록시 유휴 연결 종료 방지)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<DashboardDto.ValuationUpdate>> streamValuation() {
+        log.info("실시간 평가 스트림 API 호출됨");
+
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            log.error("인증된 사용자 ID를 찾을 수 없습니다");
+            return Flux.error(new UnauthorizedException("인증이 필요합니다."));
+        }
+
+        Flux<ServerSentEvent<DashboardDto.ValuationUpdate>> updates = valuationService.streamUpdates(userId)
+                .map(update -> ServerSentEvent.<DashboardDto.ValuationUpdate>builder()
+                        .event(update.getType())
+                        .data(update)
+                        .build());
+        Flux<ServerSentEvent<DashboardDto.ValuationUpdate>> keepAlive = Flux.interval(Duration.ofSeconds(25))
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<DashboardDto.ValuationUpdate>builder()
+                        .comment("keepalive")
+                        .build());
+
+        return Flux.merge(updates, keepAlive)
+                .doFinally(signal -> log.info("실시간 평가 스트림 종료 - userId: {}, {}", userId, signal));
     }
 
     @PostMapping("/risk/start")
-    public ResponseEntity<DashboardDto.RiskMetricsJobResponse> startRiskMetricsCalculation() {
+    public Mono<ResponseEntity<DashboardDto.RiskMetricsJobResponse>> startRiskMetricsCalculation() {
         log.info("위험 지표 계산 작업 시작 API 호출됨 (비동기)");
 
         Long userId = getCurrentUserId();
         if (userId == null) {
             log.error("인증된 사용자 ID를 찾을 수 없습니다");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         log.info("사용자 ID: {}의 위험 지표 계산 작업 시작", userId);
-        DashboardDto.RiskMetricsJobResponse response = dashboardService.startRiskMetricsCalculation(userId);
-        log.info("위험 지표 계산 작업 시작 완료 - jobId: {}", response.getJobId());
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        return dashboardService.startRiskMetricsCalculation(userId)
+                .map(response -> ResponseEntity.status(HttpStatus.ACCEPTED).body(response));
     }
 
     @GetMapping("/risk/result/{jobId}")
@@ -1,5 +1,16 @@
 package com.mystockfolio.backend.controller;
 
+import com.mystockfolio.backend.service.AchievementDetectionService;
+import com.mystockfolio.backend.service.AchievementSweepJob;
+import com.mystockfolio.backend.service.AchievementThresholdIndex;
+import com.mystockfolio.backend.service.CustomUserDetailsService;
+import com.mystockfolio.backend.service.HeldAchievementIndex;
+import com.mystockfolio.backend.service.MarketPriceCacheService;
+import com.mystockfolio.backend.service.PriceTickBus;
+import com.mystockfolio.backend.service.RedisEventRelay;
+import com.mystockfolio.backend.service.RewardOutboxDispatcher;
+import com.mystockfolio.backend.service.TickerHolderIndex;
+import com.mystockfolio.backend.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseEntity;
@@ -7,12 +18,25 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/health")
 @RequiredArgsConstructor
 public class HealthController {
 
     private final StringRedisTemplate redisTemplate;
+    private final MarketPriceCacheService priceCacheService;
+    private final TickerHolderIndex holderIndex;
+    private final PriceTickBus priceTickBus;
+    private final RedisEventRelay eventRelay;
+    private final RewardOutboxDispatcher rewardOutboxDispatcher;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AchievementDetectionService achievementDetectionService;
+    private final AchievementSweepJob achievementSweepJob;
+    private final HeldAchievementIndex heldAchievementIndex;
+    private final AchievementThresholdIndex achievementThresholdIndex;
 
     @GetMapping("/redis")
     public ResponseEntity<String> redisHealth() {
@@ -25,6 +49,59 @@ public class HealthController {
             return ResponseEntity.ok("redis:down");
         }
     }
-}
 
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> priceCacheStats() {
+        return ResponseEntity.ok(priceCacheService.getNearCacheStats());
+    }
+
+    @GetMapping("/holder-index")
+    public ResponseEntity<Map<String, Object>> holderIndexStats() {
+        return ResponseEntity.ok(holderIndex.getStats());
+    }
+
+    @GetMapping("/tick-bus")
+    public ResponseEntity<Map<String, Object>> priceTickBusStats() {
+        return ResponseEntity.ok(priceTickBus.getStats());
+    }
+
+    @GetMapping("/relay")
+    public ResponseEntity<Map<String, Object>> relayStats() {
+        return ResponseEntity.ok(eventRelay.getStats());
+    }
 
+    @GetMapping("/reward-outbox")
+    public ResponseEntity<Map<String, Object>> rewardOutboxStats() {
+        return ResponseEntity.ok(rewardOutboxDispatcher.getStats());
+    }
+
+    @GetMapping("/principal-cache")
+    public ResponseEntity<Map<String, Object>> principalCacheStats() {
+        return ResponseEntity.ok(userDetailsService.getStats());
+    }
+
+    @GetMapping("/jwt-cache")
+    public ResponseEntity<Map<String, Object>> jwtClaimsCacheStats() {
+        return ResponseEntity.ok(jwtTokenProvider.getClaimsCacheStats());
+    }
+
+    @GetMapping("/achievement")
+    public ResponseEntity<Map<String, Object>> achievementStats() {
+        return ResponseEntity.ok(achievementDetectionService.getStats());
+    }
+
+    @GetMapping("/achievement-sweep")
+    public ResponseEntity<Map<String, Object>> achievementSweepStats() {
+        return ResponseEntity.ok(achievementSweepJob.getStats());
+    }
+
+    @GetMapping("/held-achievements")
+    public ResponseEntity<Map<String, Object>> heldAchievementStats() {
+        return ResponseEntity.ok(heldAchievementIndex.getStats());
+    }
+
+    @GetMapping("/achievement-threshold")
+    public ResponseEntity<Map<String, Object>> achievementThresholdStats() {
+        return ResponseEntity.ok(achievementThresholdIndex.getStats());
+    }
+}
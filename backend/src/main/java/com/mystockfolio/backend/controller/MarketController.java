@@ -3,6 +3,7 @@ package com.mystockfolio.backend.controller;
 import com.mystockfolio.backend.client.MarketDataClient;
 import com.mystockfolio.backend.client.CrawlerClient;
 import com.mystockfolio.backend.dto.MarketDataDto;
+import com.mystockfolio.backend.service.MarketPriceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,7 @@ public class MarketController {
 
     private final MarketDataClient marketDataClient;
     private final CrawlerClient crawlerClient;
+    private final MarketPriceService marketPriceService;
     
     // 한국 주식 판별: 6자리 숫자 티커
     private static final Pattern KR_STOCK_PATTERN = Pattern.compile("^\\d{6}$");
@@ -70,33 +72,18 @@ public class MarketController {
     public ResponseEntity<?> getPrice(@RequestParam String ticker) {
         log.info("현재가 조회 요청 - ticker: {}", ticker);
         
-        // 한국 주식인 경우 crawler-svc 호출, 그 외는 market-data-svc 호출
-        if (isKoreanStock(ticker)) {
-            var fromCrawler = crawlerClient.getKRStockQuote(ticker)
-                    .<ResponseEntity<?>>map(quote -> {
-                        Map<String, Object> response = new HashMap<>();
-                        response.put("ticker", quote.getTicker());
-                        response.put("price", quote.getCurrent_price());
-                        response.put("last_updated", java.time.Instant.now().toString());
-                        return ResponseEntity.ok(response);
-                    })
-                    .defaultIfEmpty(ResponseEntity.ok(createFakePriceResponse(ticker)))
-                    .block();
-            return fromCrawler;
-        } else {
-            // FastAPI 호출
-            var fromSvc = marketDataClient.getCurrentPrice(ticker)
-                    .<ResponseEntity<?>>map(resp -> {
-                        Map<String, Object> response = new HashMap<>();
-                        response.put("ticker", ticker);
-                        response.put("price", resp.getPrice());
-                        response.put("last_updated", resp.getLastUpdated() != null ? resp.getLastUpdated() : java.time.Instant.now().toString());
-                        return ResponseEntity.ok(response);
-                    })
-                    .defaultIfEmpty(ResponseEntity.ok(createFakePriceResponse(ticker)))
-                    .block();
-            return fromSvc;
-        }
+        // 캐시 → 동일 티커 동시 조회 병합 → crawler-svc(한국 주식) / market-data-svc(그 외)
+        // last_updated: 가격을 실제로 조회한 시각 (캐시/마지막 정상 가격이면 그 조회 시각)
+        return marketPriceService.getPriceSnapshot(ticker)
+                .<ResponseEntity<?>>map(snapshot -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("ticker", ticker);
+                    response.put("price", snapshot.getPrice());
+                    response.put("last_updated", java.time.Instant.ofEpochMilli(snapshot.getUpdatedAt()).toString());
+                    return ResponseEntity.ok(response);
+                })
+                .defaultIfEmpty(ResponseEntity.ok(createFakePriceResponse(ticker)))
+                .block();
     }
 
     @GetMapping("/chart")
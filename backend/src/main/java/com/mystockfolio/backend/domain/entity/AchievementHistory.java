@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
-@Table(name = "achievement_history")
+@Table(name = "achievement_history", indexes = {
+        // 히스토리 커서 페이지: 사용자별 (created_at, id) 역순 조회
+        @Index(name = "idx_achievement_history_user_created_id", columnList = "user_id, created_at, id"),
+        // 중복 발행 확인 / 보유 성과 조회: 인덱스만 읽음
+        @Index(name = "idx_achievement_history_user_type", columnList = "user_id, achievement_type")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AchievementHistory {
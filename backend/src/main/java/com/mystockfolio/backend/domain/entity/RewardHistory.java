@@ -9,7 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reward_history")
+@Table(name = "reward_history", indexes = {
+        // 일일 지급 여부 확인: 사용자 + 활동 + 시간 구간을 인덱스만으로 조회
+        @Index(name = "idx_reward_history_user_activity_created", columnList = "user_id, activity_type, created_at"),
+        // 히스토리 커서 페이지: 사용자별 (created_at, id) 역순 조회
+        @Index(name = "idx_reward_history_user_created_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RewardHistory {
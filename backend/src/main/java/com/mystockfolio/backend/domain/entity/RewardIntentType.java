@@ -0,0 +1,8 @@
+package com.mystockfolio.backend.domain.entity;
+
+/**
+ * 리워드 아웃박스에 기록하는 블록체인 작업 유형
+ */
+public enum RewardIntentType {
+    ACTIVITY_REWARD     // 활동 기반 FOLIO 토큰 리워드 (batch-mint)
+}
@@ -0,0 +1,133 @@
+package com.mystockfolio.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블록체인 작업 아웃박스
+ * - 리워드를 발생시킨 변경과 같은 트랜잭션에서 기록하고, 디스패처가 커밋된 행만 가져가 처리
+ * - 재시작/네트워크 오류에도 요청이 유실되지 않음 (처리는 최소 1회 보장)
+ * - 민팅 직후 트랜잭션 해시와 지급 내역을 기록(MINTED)하므로, 이후 이력 저장이 실패해도 다시 민팅하지 않음
+ */
+@Entity
+@Table(name = "reward_outbox", indexes = {
+        @Index(name = "idx_reward_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RewardOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "intent_type", length = 30, nullable = false)
+    private RewardIntentType intentType;
+
+    @Column(name = "activity_type", length = 50, nullable = false)
+    private String activityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 15, nullable = false)
+    private RewardOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // 민팅 결과 (MINTED 이후 이력 저장에 사용)
+    @Column(name = "transaction_hash", length = 66)
+    private String transactionHash;
+
+    @Column(name = "wallet_address", length = 42)
+    private String walletAddress;
+
+    @Column(name = "amount")
+    private Double amount;
+
+    @Column(name = "balance_score")
+    private Double balanceScore;
+
+    @Builder
+    public RewardOutbox(Long userId, RewardIntentType intentType, String activityType) {
+        LocalDateTime now = LocalDateTime.now();
+        this.userId = userId;
+        this.intentType = intentType;
+        this.activityType = activityType;
+        this.status = RewardOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    // 디스패처가 가져감: leaseUntil까지 다른 디스패처가 가져가지 않음 (처리 중 종료되면 그 이후 다시 처리)
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts = this.attempts + 1;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markDone() {
+        this.status = RewardOutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 민팅 완료 기록: 이력 저장 단계는 시도 횟수를 새로 셈 (leaseUntil까지는 민팅한 디스패처가 저장)
+    public void markMinted(String transactionHash, String walletAddress, double amount, double balanceScore,
+                           LocalDateTime leaseUntil) {
+        this.status = RewardOutboxStatus.MINTED;
+        this.transactionHash = transactionHash;
+        this.walletAddress = walletAddress;
+        this.amount = amount;
+        this.balanceScore = balanceScore;
+        this.attempts = 0;
+        this.nextAttemptAt = leaseUntil;
+        this.lastError = null;
+    }
+
+    // 가져간 뒤 처리하지 못한 행을 되돌림 (시도 횟수에 포함하지 않음)
+    public void release(LocalDateTime nextAttemptAt) {
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 재시도 예약 (현재 단계 유지: PENDING은 민팅부터, MINTED는 이력 저장만 다시 시도)
+    public void markRetry(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = RewardOutboxStatus.FAILED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mystockfolio.backend.domain.entity;
+
+/**
+ * 리워드 아웃박스 처리 상태
+ */
+public enum RewardOutboxStatus {
+    PENDING,        // 처리 대기 (next_attempt_at 이후 처리, 디스패처가 가져가면 점유 만료 시각으로 미룸)
+    MINTED,         // 민팅 완료, 리워드 이력 저장 대기 (재시도 시 블록체인을 다시 호출하지 않음)
+    DONE,           // 처리 완료
+    FAILED          // 최대 시도 횟수 초과 (MINTED에서 넘어온 행은 트랜잭션 해시로 대조)
+}
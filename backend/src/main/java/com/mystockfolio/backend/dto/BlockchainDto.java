@@ -24,20 +24,18 @@ public class BlockchainDto {
     }
 
     /**
-     * 토큰 민팅 응답
+     * 토큰 일괄 민팅 응답
      */
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class MintRewardResponse {
+    public static class BatchMintRewardResponse {
         private Boolean success;
         private String transactionHash;
         private Long blockNumber;
         private String gasUsed;
-        private Double amount;
-        private String to;
-        private String activity;
+        private Integer count;
     }
 
     /**
@@ -128,6 +126,9 @@ public class BlockchainDto {
     public static class RewardHistoryResponse {
         private List<RewardHistoryItem> rewards;
         private Integer totalCount;
+        // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+        private String nextCursor;
+        private Boolean hasNext;
     }
 
     /**
@@ -155,6 +156,9 @@ public class BlockchainDto {
     public static class AchievementHistoryResponse {
         private List<AchievementHistoryItem> achievements;
         private Integer totalCount;
+        // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+        private String nextCursor;
+        private Boolean hasNext;
     }
 
     /**
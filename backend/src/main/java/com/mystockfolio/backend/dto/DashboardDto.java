@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class DashboardDto {
@@ -31,6 +32,10 @@ public class DashboardDto {
         private Double gainLoss;
         private Double returnRate;
         private String assetType;
+        // 현재가가 최신 시세가 아닌 경우 true (마지막 정상 가격 또는 매입가 사용)
+        private Boolean stale;
+        // stale 가격의 조회 시각 (최신 시세이거나 매입가로 대체한 경우 null)
+        private LocalDateTime priceUpdatedAt;
     }
 
     @Getter
@@ -91,4 +96,21 @@ public class DashboardDto {
         private String status;
         private String message;
     }
-}
\ No newline at end of file
+
+    // 실시간 평가 스트림 이벤트 (/api/dashboard/stream)
+    // - snapshot: 연결 직후 전체 자산, delta: 바뀐 자산만, reset: 스냅샷 폐기 (통계 재조회 필요)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ValuationUpdate {
+        private String type;
+        private Double totalMarketValue;
+        private Double totalInitialInvestment;
+        private Double totalGainLoss;
+        private Double totalReturnRate;
+        private List<AssetAllocation> assetAllocations;
+        private List<AssetReturn> changedAssets;
+        private List<Long> removedAssetIds;
+    }
+}
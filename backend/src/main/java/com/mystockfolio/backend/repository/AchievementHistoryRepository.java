@@ -1,9 +1,15 @@
 package com.mystockfolio.backend.repository;
 
 import com.mystockfolio.backend.domain.entity.AchievementHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AchievementHistoryRepository extends JpaRepository<AchievementHistory, Long> {
@@ -14,18 +20,58 @@ public interface AchievementHistoryRepository extends JpaRepository<AchievementH
     List<AchievementHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
-     * 특정 사용자가 이미 특정 성과를 받았는지 확인
-     * 여러 개가 있을 수 있으므로 List로 반환하고 첫 번째 항목만 사용
+     * 성과 이력 첫 페이지 (최신순, 응답에 필요한 컬럼만)
      */
-    List<AchievementHistory> findByUserIdAndAchievementType(Long userId, String achievementType);
+    @Query("SELECT ah.id AS id, ah.achievementType AS achievementType, ah.tokenId AS tokenId, " +
+           "ah.transactionHash AS transactionHash, ah.metadata AS metadata, ah.createdAt AS createdAt " +
+           "FROM AchievementHistory ah WHERE ah.user.userId = :userId " +
+           "ORDER BY ah.createdAt DESC, ah.id DESC")
+    List<AchievementHistoryView> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 성과 이력 다음 페이지: 커서(createdAt, id) 이후 행
+     */
+    @Query("SELECT ah.id AS id, ah.achievementType AS achievementType, ah.tokenId AS tokenId, " +
+           "ah.transactionHash AS transactionHash, ah.metadata AS metadata, ah.createdAt AS createdAt " +
+           "FROM AchievementHistory ah WHERE ah.user.userId = :userId " +
+           "AND (ah.createdAt < :createdAt OR (ah.createdAt = :createdAt AND ah.id < :id)) " +
+           "ORDER BY ah.createdAt DESC, ah.id DESC")
+    List<AchievementHistoryView> findPageByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("SELECT COUNT(ah) FROM AchievementHistory ah WHERE ah.user.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
 
     /**
      * 특정 사용자의 특정 성과 존재 여부
-     * List의 첫 번째 항목만 확인하도록 수정
+     * - (user_id, achievement_type) 인덱스만 읽음 (엔티티/metadata 로딩 없음)
      */
-    default boolean existsByUserIdAndAchievementType(Long userId, String achievementType) {
-        List<AchievementHistory> achievements = findByUserIdAndAchievementType(userId, achievementType);
-        return achievements != null && !achievements.isEmpty();
+    @Query("SELECT CASE WHEN COUNT(ah) > 0 THEN true ELSE false END FROM AchievementHistory ah " +
+           "WHERE ah.user.userId = :userId AND ah.achievementType = :achievementType")
+    boolean existsByUserIdAndAchievementType(@Param("userId") Long userId, @Param("achievementType") String achievementType);
+
+    /**
+     * 여러 사용자가 보유한 성과 유형 (사용자별 중복 제거, 일괄 판정 시 발행 대상 사전 제외용)
+     */
+    @Query("SELECT DISTINCT ah.user.userId AS userId, ah.achievementType AS achievementType " +
+           "FROM AchievementHistory ah WHERE ah.user.userId IN :userIds")
+    List<HeldAchievementView> findHeldAchievements(@Param("userIds") Collection<Long> userIds);
+
+    interface HeldAchievementView {
+        Long getUserId();
+        String getAchievementType();
     }
-}
 
+    interface AchievementHistoryView {
+        Long getId();
+        String getAchievementType();
+        String getTokenId();
+        String getTransactionHash();
+        Map<String, Object> getMetadata();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -2,6 +2,10 @@ package com.mystockfolio.backend.repository;
 
 import com.mystockfolio.backend.domain.entity.Asset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface AssetRepository extends JpaRepository<Asset, Long> {
@@ -9,4 +13,32 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     // 특정 포트폴리오에 속한 모든 자산 조회 (Portfolio ID 기준)
     // findBy[연관관계필드명][연관된엔티티의PK필드명] -> findByPortfolioId
     List<Asset> findByPortfolioId(Long portfolioId); // <-- 수정: findByPortfolioPortfolioId -> findByPortfolioId
+
+    // 보유 중인 모든 티커 (중복 제거) - 가격 선갱신 대상
+    @Query("SELECT DISTINCT a.ticker FROM Asset a")
+    List<String> findDistinctTickers();
+
+    // 티커별 보유자 인덱스 구성용 (엔티티 대신 필요한 컬럼만, id 기준 구간 조회)
+    @Query("SELECT a.id AS assetId, p.user.userId AS userId, a.ticker AS ticker, " +
+           "a.quantity AS quantity, a.avgBuyPrice AS avgBuyPrice " +
+           "FROM Asset a JOIN a.portfolio p WHERE a.id > :afterId ORDER BY a.id")
+    List<HoldingView> findHoldingsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 사용자별 보유 자산 유형 수 (리워드 균형 점수 계산용, 사용자 묶음당 1회 조회)
+    @Query("SELECT p.user.userId AS userId, COUNT(DISTINCT a.assetType) AS assetTypeCount " +
+           "FROM Asset a JOIN a.portfolio p WHERE p.user.userId IN :userIds GROUP BY p.user.userId")
+    List<AssetTypeCountView> countAssetTypesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    interface AssetTypeCountView {
+        Long getUserId();
+        Long getAssetTypeCount();
+    }
+
+    interface HoldingView {
+        Long getAssetId();
+        Long getUserId();
+        String getTicker();
+        Double getQuantity();
+        Double getAvgBuyPrice();
+    }
 }
\ No newline at end of file
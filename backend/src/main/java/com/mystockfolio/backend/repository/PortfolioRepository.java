@@ -4,6 +4,7 @@ import com.mystockfolio.backend.domain.entity.Portfolio;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
@@ -16,6 +17,10 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT DISTINCT p FROM Portfolio p LEFT JOIN FETCH p.assets WHERE p.user.userId = :userId")
     List<Portfolio> findByUserIdWithAssets(@Param("userId") Long userId);
     
+    // 여러 사용자의 포트폴리오 목록 조회 (자산 포함 - JOIN FETCH, 일괄 작업용)
+    @Query("SELECT DISTINCT p FROM Portfolio p LEFT JOIN FETCH p.assets WHERE p.user.userId IN :userIds")
+    List<Portfolio> findByUserIdsWithAssets(@Param("userIds") Collection<Long> userIds);
+
     // 사용자 ID로 포트폴리오 개수 조회
     @Query("SELECT COUNT(p) FROM Portfolio p WHERE p.user.userId = :userId")
     long countByUserId(@Param("userId") Long userId);
@@ -1,11 +1,13 @@
 package com.mystockfolio.backend.repository;
 
 import com.mystockfolio.backend.domain.entity.RewardHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,16 +19,47 @@ public interface RewardHistoryRepository extends JpaRepository<RewardHistory, Lo
     List<RewardHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
-     * 오늘 특정 활동 타입으로 리워드를 받았는지 확인
-     * 여러 결과가 있을 수 있으므로 List로 반환
+     * 리워드 히스토리 첫 페이지 (최신순, 응답에 필요한 컬럼만)
+     * - (user_id, created_at, id) 인덱스를 역순으로 limit 행만 읽음
      */
-    @Query("SELECT rh FROM RewardHistory rh WHERE rh.user.userId = :userId " +
-           "AND rh.activityType = :activityType " +
-           "AND DATE(rh.createdAt) = :date")
-    List<RewardHistory> findByUserIdAndActivityTypeAndDate(
+    @Query("SELECT rh.id AS id, rh.activityType AS activityType, rh.amount AS amount, " +
+           "rh.transactionHash AS transactionHash, rh.createdAt AS createdAt " +
+           "FROM RewardHistory rh WHERE rh.user.userId = :userId " +
+           "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<RewardHistoryView> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 리워드 히스토리 다음 페이지: 커서(createdAt, id) 이후 행 (OFFSET 없이 인덱스 위치에서 이어서 읽음)
+     */
+    @Query("SELECT rh.id AS id, rh.activityType AS activityType, rh.amount AS amount, " +
+           "rh.transactionHash AS transactionHash, rh.createdAt AS createdAt " +
+           "FROM RewardHistory rh WHERE rh.user.userId = :userId " +
+           "AND (rh.createdAt < :createdAt OR (rh.createdAt = :createdAt AND rh.id < :id)) " +
+           "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<RewardHistoryView> findPageByUserIdAfter(
         @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query("SELECT COUNT(rh) FROM RewardHistory rh WHERE rh.user.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자 중 [from, to) 구간에 특정 활동 리워드를 받은 사용자 ID (민팅 묶음당 1회 조회)
+     * - created_at에 DATE()를 씌우지 않고 반열린 구간으로 비교해 인덱스 범위 조회
+     * - (user_id, activity_type, created_at) 복합 인덱스만으로 응답 (테이블 행 접근 없음)
+     */
+    @Query("SELECT DISTINCT rh.user.userId FROM RewardHistory rh " +
+           "WHERE rh.user.userId IN :userIds " +
+           "AND rh.activityType = :activityType " +
+           "AND rh.createdAt >= :from AND rh.createdAt < :to")
+    List<Long> findRewardedUserIds(
+        @Param("userIds") Collection<Long> userIds,
         @Param("activityType") String activityType,
-        @Param("date") LocalDate date
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
     );
 
     /**
@@ -37,5 +70,12 @@ public interface RewardHistoryRepository extends JpaRepository<RewardHistory, Lo
     List<RewardHistory> findTopNByUserIdOrderByCreatedAtDesc(
         @Param("userId") Long userId
     );
-}
 
+    interface RewardHistoryView {
+        Long getId();
+        String getActivityType();
+        Double getAmount();
+        String getTransactionHash();
+        LocalDateTime getCreatedAt();
+    }
+}
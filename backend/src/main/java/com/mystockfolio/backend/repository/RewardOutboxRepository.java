@@ -0,0 +1,50 @@
+package com.mystockfolio.backend.repository;
+
+import com.mystockfolio.backend.domain.entity.RewardOutbox;
+import com.mystockfolio.backend.domain.entity.RewardOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RewardOutboxRepository extends JpaRepository<RewardOutbox, Long> {
+
+    /**
+     * 처리 시각이 된 행을 잠금 (트랜잭션 안에서 호출)
+     * - status: PENDING(민팅 대기) 또는 MINTED(이력 저장 대기)
+     * - 다른 디스패처(인스턴스)가 잠근 행은 기다리지 않고 건너뜀 (MySQL 8.0+ SKIP LOCKED)
+     * - (status, next_attempt_at) 인덱스 범위 조회
+     */
+    @Query(value = "SELECT * FROM reward_outbox " +
+                   "WHERE status = :status AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<RewardOutbox> lockDue(@Param("status") String status, @Param("now") LocalDateTime now,
+                               @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE RewardOutbox o SET o.status = :status, o.processedAt = :processedAt, o.lastError = null " +
+           "WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") RewardOutboxStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 보관 기간이 지난 완료 행 정리
+     */
+    @Modifying
+    @Query("DELETE FROM RewardOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") RewardOutboxStatus status, @Param("before") LocalDateTime before);
+
+    @Query("SELECT o.status AS status, COUNT(o) AS count FROM RewardOutbox o GROUP BY o.status")
+    List<StatusCountView> countByStatus();
+
+    interface StatusCountView {
+        RewardOutboxStatus getStatus();
+        Long getCount();
+    }
+}
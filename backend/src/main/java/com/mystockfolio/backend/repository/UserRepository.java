@@ -1,7 +1,12 @@
 package com.mystockfolio.backend.repository;
 
 import com.mystockfolio.backend.domain.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional; // Optional 사용
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -16,4 +21,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Provider와 ProviderId로 사용자 조회 (OAuth2 인증 시 사용)
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
-}
\ No newline at end of file
+
+    // 가장 큰 사용자 ID (일괄 작업의 ID 구간 분할용)
+    @Query("SELECT COALESCE(MAX(u.userId), 0) FROM User u")
+    long findMaxUserId();
+
+    /**
+     * 지갑이 연결된 사용자를 ID 순으로 조회 (keyset: afterId 초과 ~ upToId 이하)
+     * - PK 범위 탐색이므로 몇 번째 묶음이든 읽는 범위가 일정
+     */
+    @Query("SELECT u.userId AS userId, u.walletAddress AS walletAddress FROM User u " +
+           "WHERE u.userId > :afterId AND u.userId <= :upToId AND u.walletAddress IS NOT NULL " +
+           "ORDER BY u.userId")
+    List<WalletUserView> findWalletUsers(@Param("afterId") Long afterId, @Param("upToId") Long upToId, Limit limit);
+
+    interface WalletUserView {
+        Long getUserId();
+        String getWalletAddress();
+    }
+}
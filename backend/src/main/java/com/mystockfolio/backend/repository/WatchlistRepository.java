@@ -2,6 +2,7 @@ package com.mystockfolio.backend.repository;
 
 import com.mystockfolio.backend.domain.entity.Watchlist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,5 +10,9 @@ import java.util.Optional;
 public interface WatchlistRepository extends JpaRepository<Watchlist, Long> {
     List<Watchlist> findByUserId(Long userId);
     Optional<Watchlist> findByUserIdAndTicker(Long userId, String ticker);
+
+    // 관심 종목으로 등록된 모든 티커 (중복 제거) - 가격 선갱신 대상
+    @Query("SELECT DISTINCT w.ticker FROM Watchlist w")
+    List<String> findDistinctTickers();
 }
 
@@ -2,22 +2,41 @@ package com.mystockfolio.backend.service;
 
 import com.mystockfolio.backend.domain.entity.Asset;
 import com.mystockfolio.backend.domain.entity.Portfolio;
+import com.mystockfolio.backend.dto.BlockchainDto;
 import com.mystockfolio.backend.repository.PortfolioRepository;
+import com.mystockfolio.backend.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * NFT 성과 달성 감지 서비스
  * - 포트폴리오 90일 유지 체크
  * - 수익률 달성 체크 (10%, 20%, 50% 등)
+ * - 판정 요청은 사용자별로 묶어서 처리: 마지막 요청 후 debounce-ms 동안 추가 요청이 없을 때 1회 판정
+ *   (연속 요청이 이어져도 첫 요청 후 max-wait-ms 안에는 판정) → 자산 50건 연속 추가 시 판정 1회
+ * - 판정은 전용 실행기(SchedulerConfig.achievementExecutor, 스레드/대기열 제한)에서 실행, 대기열이 가득 차면 거절하고 건수 기록
  */
 @Slf4j
 @Service
@@ -26,15 +45,130 @@ public class AchievementDetectionService {
 
     private final PortfolioRepository portfolioRepository;
     private final RewardService rewardService;
-    private final DashboardService dashboardService;
+    private final PortfolioValuationService valuationService;
+    private final AchievementThresholdIndex thresholdIndex;
+    // 기본 실행기/스케줄러와 구분해 이름으로 주입 (lombok.config가 @Qualifier를 생성자 파라미터로 복사)
+    @Qualifier("achievementExecutor")
+    private final ThreadPoolTaskExecutor achievementExecutor;
+    @Qualifier("achievementDebounceScheduler")
+    private final ThreadPoolTaskScheduler achievementDebounceScheduler;
+
+    // 수익률 성과 기준 (%)과 성과 유형 (AchievementThresholdIndex도 같은 기준을 사용)
+    static final double[] RETURN_RATE_THRESHOLDS = {10.0, 20.0, 50.0, 100.0};
+    private static final String[] RETURN_RATE_ACHIEVEMENTS = {
+            "return_rate_10percent",
+            "return_rate_20percent",
+            "return_rate_50percent",
+            "return_rate_100percent"
+    };
+
+    @Value("${achievement.debounce-ms:2000}")
+    private long debounceMs;
+
+    @Value("${achievement.max-wait-ms:10000}")
+    private long maxWaitMs;
+
+    // 판정 대기 중인 사용자 (요청이 더 들어오면 합친 항목으로 교체)
+    private final Map<Long, PendingCheck> pendingChecks = new ConcurrentHashMap<>();
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evaluated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * 성과 판정 요청 (트랜잭션 커밋 후 접수, 사용자별로 묶어서 1회 판정)
+     */
+    public void requestCheck(Long userId, String walletAddress) {
+        if (!isValidWalletAddress(walletAddress)) {
+            log.debug("지갑 주소가 없어 성과 체크를 건너뜁니다. userId={}", userId);
+            return;
+        }
+        // 커밋 전 판정하면 방금 추가한 자산이 보이지 않음
+        TransactionUtils.afterCommit(() -> enqueueCheck(userId, walletAddress));
+    }
+
+    private void enqueueCheck(Long userId, String walletAddress) {
+        requested.incrementAndGet();
+        PendingCheck created = new PendingCheck(walletAddress, System.currentTimeMillis());
+        // 대기 항목은 불변: 합칠 때 새 항목으로 교체 (판정으로 넘기는 쪽의 remove(userId, 항목)와 원자적으로 경쟁)
+        PendingCheck pending = pendingChecks.merge(userId, created, PendingCheck::mergedWith);
+        if (pending != created) {
+            coalesced.incrementAndGet();
+            return;
+        }
+        scheduleFire(userId, debounceMs);
+    }
+
+    // 대기 시간이 끝났으면 실행기로 넘기고, 그 사이 요청이 더 왔으면 다시 예약
+    private void fire(Long userId) {
+        while (true) {
+            PendingCheck pending = pendingChecks.get(userId);
+            if (pending == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long dueAt = pending.dueAt(debounceMs, maxWaitMs);
+            if (now < dueAt) {
+                scheduleFire(userId, dueAt - now);
+                return;
+            }
+            // 읽은 뒤 요청이 합쳐졌다면 항목이 교체되어 제거에 실패 → 새 항목으로 다시 판단
+            if (pendingChecks.remove(userId, pending)) {
+                submit(userId, pending.walletAddress);
+                return;
+            }
+        }
+    }
+
+    private void scheduleFire(Long userId, long delayMs) {
+        achievementDebounceScheduler.schedule(() -> fire(userId), Instant.now().plusMillis(delayMs));
+    }
+
+    private void submit(Long userId, String walletAddress) {
+        try {
+            achievementExecutor.execute(() -> {
+                evaluated.incrementAndGet();
+                checkAndMintAchievements(userId, walletAddress);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("성과 판정 대기열 초과로 거절 - userId: {}, 대기열: {}", userId, achievementExecutor.getQueueSize());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingUsers", pendingChecks.size());
+        stats.put("queueDepth", achievementExecutor.getQueueSize());
+        stats.put("queueCapacity", achievementExecutor.getQueueCapacity());
+        stats.put("activeThreads", achievementExecutor.getActiveCount());
+        stats.put("poolSize", achievementExecutor.getPoolSize());
+        stats.put("requested", requested.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("evaluated", evaluated.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    private static boolean isValidWalletAddress(String walletAddress) {
+        return walletAddress != null && walletAddress.startsWith("0x") && walletAddress.length() == 42;
+    }
 
     /**
-     * 사용자의 성과 달성 여부 체크 및 NFT 발행
+     * 시세 변동으로 다음 수익률 기준을 넘은 사용자 판정 요청
+     */
+    @EventListener
+    public void onThresholdCrossed(AchievementThresholdIndex.ThresholdCrossedEvent event) {
+        requestCheck(event.getUserId(), event.getWalletAddress());
+    }
+
+    /**
+     * 사용자의 성과 달성 여부 체크 및 NFT 발행 (호출 스레드에서 바로 실행)
      * @param userId 사용자 ID
      */
-    @Async
     public void checkAndMintAchievements(Long userId, String walletAddress) {
-        if (walletAddress == null || !walletAddress.startsWith("0x") || walletAddress.length() != 42) {
+        if (!isValidWalletAddress(walletAddress)) {
             log.debug("지갑 주소가 없어 성과 체크를 건너뜁니다. userId={}", userId);
             return;
         }
@@ -46,16 +180,22 @@ public class AchievementDetectionService {
             
             if (portfolios.isEmpty()) {
                 log.debug("포트폴리오가 없어 성과 체크를 건너뜁니다. userId={}", userId);
+                thresholdIndex.untrack(userId);
                 return;
             }
             
             log.info("포트폴리오 개수: {}, userId: {}", portfolios.size(), userId);
-            
-            // 포트폴리오 유지 기간 체크
-            checkPortfolioMaintenanceAchievement(userId, walletAddress, portfolios);
-            
-            // 수익률 성과 체크
-            checkReturnRateAchievements(userId, walletAddress, portfolios);
+
+            for (AchievementCandidate candidate : evaluate(userId, portfolios)) {
+                mint(userId, walletAddress, candidate).subscribe(
+                        response -> log.info("성과 NFT 발행 완료: userId={}, achievementType={}, tokenId={}, txHash={}",
+                                userId, candidate.getAchievementType(), response.getTokenId(), response.getTransactionHash()),
+                        error -> log.error("성과 NFT 발행 실패: userId={}, achievementType={}, error={}",
+                                userId, candidate.getAchievementType(), error.getMessage(), error)
+                );
+            }
+            // 이후 수익률 기준 도달은 시세 틱으로 감지
+            thresholdIndex.track(userId, walletAddress, portfolios, false);
             
             log.info("성과 달성 체크 완료 - userId: {}", userId);
         } catch (Exception e) {
@@ -64,16 +204,39 @@ public class AchievementDetectionService {
     }
 
     /**
-     * 포트폴리오 90일 유지 성과 체크
+     * 조건을 충족한 성과 목록 (발행 여부는 확인하지 않음, 자산이 로드된 포트폴리오 필요)
+     * - 포트폴리오 90일 유지
+     * - 수익률 10%, 20%, 50%, 100%
      */
-    private void checkPortfolioMaintenanceAchievement(Long userId, String walletAddress, List<Portfolio> portfolios) {
+    public List<AchievementCandidate> evaluate(Long userId, List<Portfolio> portfolios) {
+        List<AchievementCandidate> candidates = new ArrayList<>();
         if (portfolios.isEmpty()) {
-            return;
+            return candidates;
         }
+        // 포트폴리오 유지 기간 체크
+        checkPortfolioMaintenanceAchievement(userId, portfolios, candidates);
+
+        // 수익률 성과 체크
+        checkReturnRateAchievements(userId, portfolios, candidates);
+        return candidates;
+    }
+
+    /**
+     * 성과 NFT 발행 요청 (이미 보유한 성과는 RewardService에서 건너뜀)
+     */
+    public Mono<BlockchainDto.MintAchievementResponse> mint(Long userId, String walletAddress, AchievementCandidate candidate) {
+        return rewardService.mintAchievementNFT(userId, walletAddress, candidate.getAchievementType(), candidate.getMetadata());
+    }
 
+    /**
+     * 포트폴리오 90일 유지 성과 체크
+     */
+    private void checkPortfolioMaintenanceAchievement(Long userId, List<Portfolio> portfolios,
+                                                      List<AchievementCandidate> candidates) {
         // 가장 오래된 포트폴리오의 생성일을 기준으로 체크
         LocalDateTime oldestPortfolioDate = portfolios.stream()
                 .map(Portfolio::getCreatedAt)
+                .filter(Objects::nonNull)
                 .min(LocalDateTime::compareTo)
                 .orElse(null);
 
@@ -83,44 +246,28 @@ public class AchievementDetectionService {
 
         long daysSinceCreation = ChronoUnit.DAYS.between(oldestPortfolioDate, LocalDateTime.now());
 
-        log.info("포트폴리오 유지 기간 체크 - userId: {}, daysSinceCreation: {}", userId, daysSinceCreation);
+        log.debug("포트폴리오 유지 기간 체크 - userId: {}, daysSinceCreation: {}", userId, daysSinceCreation);
         
         // 90일 이상 유지되었는지 체크
         if (daysSinceCreation >= 90) {
-            log.info("90일 유지 조건 충족 - userId: {}, minting NFT...", userId);
+            log.debug("90일 유지 조건 충족 - userId: {}", userId);
             Map<String, Object> metadata = new HashMap<>();
             metadata.put("period", 90);
             metadata.put("daysSinceCreation", daysSinceCreation);
             metadata.put("portfolioCount", portfolios.size());
-
-            rewardService.mintAchievementNFT(
-                    userId,
-                    walletAddress,
-                    "portfolio_maintained_90days",
-                    metadata
-            ).subscribe(
-                    response -> log.info("90일 유지 성과 NFT 발행 완료: userId={}, tokenId={}, txHash={}", 
-                            userId, response.getTokenId(), response.getTransactionHash()),
-                    error -> log.error("90일 유지 성과 NFT 발행 실패: userId={}, error={}", 
-                            userId, error.getMessage(), error)
-            );
-        } else {
-            log.debug("90일 유지 조건 미충족 - userId: {}, daysSinceCreation: {}", userId, daysSinceCreation);
+            candidates.add(new AchievementCandidate("portfolio_maintained_90days", metadata));
         }
     }
 
     /**
-     * 수익률 성과 체크 및 NFT 발행
+     * 수익률 성과 체크
      * 성과 기준: 10%, 20%, 50%, 100%
      */
-    private void checkReturnRateAchievements(Long userId, String walletAddress, List<Portfolio> portfolios) {
-        if (portfolios.isEmpty()) {
-            return;
-        }
-
+    private void checkReturnRateAchievements(Long userId, List<Portfolio> portfolios,
+                                             List<AchievementCandidate> candidates) {
         try {
             // 모든 자산 수집
-            List<Asset> allAssets = new java.util.ArrayList<>();
+            List<Asset> allAssets = new ArrayList<>();
             for (Portfolio portfolio : portfolios) {
                 allAssets.addAll(portfolio.getAssets());
             }
@@ -129,63 +276,22 @@ public class AchievementDetectionService {
                 return;
             }
 
-            // DashboardService를 통해 실시간 수익률 가져오기 (한 번만 호출)
-            double totalReturnRate;
-            com.mystockfolio.backend.dto.DashboardDto.PortfolioStatsResponse stats;
-            try {
-                stats = dashboardService.getPortfolioStats(userId);
-                if (stats != null && stats.getTotalReturnRate() != null) {
-                    totalReturnRate = stats.getTotalReturnRate();
-                } else {
-                    log.warn("수익률 계산 실패: userId={}, stats={}", userId, stats);
-                    return;
-                }
-            } catch (Exception e) {
-                log.error("수익률 조회 중 오류 발생: {}", e.getMessage(), e);
-                return;
-            }
+            // 이미 조회한 자산 + 평가 스냅샷/캐시 가격으로 수익률 계산 (DB 재조회·외부 시세 조회·리워드 기록 없음)
+            PortfolioValuationService.ReturnSummary summary = valuationService.evaluateReturn(userId, allAssets);
+            double totalReturnRate = summary.getReturnRate();
+
+            log.debug("수익률 성과 체크 - userId: {}, returnRate: {}%", userId, totalReturnRate);
 
-            log.info("수익률 성과 체크 - userId: {}, returnRate: {}%", userId, totalReturnRate);
-
-            // 수익률 성과 기준으로 NFT 발행
-            double[] thresholds = {10.0, 20.0, 50.0, 100.0};
-            String[] achievementTypes = {
-                "return_rate_10percent",
-                "return_rate_20percent",
-                "return_rate_50percent",
-                "return_rate_100percent"
-            };
-
-            for (int idx = 0; idx < thresholds.length; idx++) {
-                final int i = idx; // final 변수로 복사
-                final double threshold = thresholds[i];
-                final String achievementType = achievementTypes[i];
-                
+            for (int i = 0; i < RETURN_RATE_THRESHOLDS.length; i++) {
+                double threshold = RETURN_RATE_THRESHOLDS[i];
                 if (totalReturnRate >= threshold) {
-                    log.info("{}% 수익률 성과 조건 충족 - userId: {}, minting NFT...", threshold, userId);
-                    
-                    // stats에서 가져온 정보를 사용하여 메타데이터 구성
+                    // 수익률 요약으로 메타데이터 구성
                     Map<String, Object> metadata = new HashMap<>();
                     metadata.put("returnRate", totalReturnRate);
                     metadata.put("threshold", threshold);
-                    if (stats != null) {
-                        metadata.put("totalMarketValue", stats.getTotalMarketValue());
-                        if (stats.getTotalGainLoss() != null) {
-                            metadata.put("gainLoss", stats.getTotalGainLoss());
-                        }
-                    }
-
-                    rewardService.mintAchievementNFT(
-                            userId,
-                            walletAddress,
-                            achievementType,
-                            metadata
-                    ).subscribe(
-                            response -> log.info("{}% 수익률 성과 NFT 발행 완료: userId={}, tokenId={}, txHash={}",
-                                    threshold, userId, response.getTokenId(), response.getTransactionHash()),
-                            error -> log.error("{}% 수익률 성과 NFT 발행 실패: userId={}, error={}",
-                                    threshold, userId, error.getMessage(), error)
-                    );
+                    metadata.put("totalMarketValue", summary.getMarketValue());
+                    metadata.put("gainLoss", summary.getGainLoss());
+                    candidates.add(new AchievementCandidate(RETURN_RATE_ACHIEVEMENTS[i], metadata));
                 }
             }
 
@@ -193,5 +299,42 @@ public class AchievementDetectionService {
             log.error("수익률 성과 체크 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-}
 
+    /**
+     * 조건을 충족한 성과 (성과 유형 + NFT 메타데이터)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AchievementCandidate {
+        private final String achievementType;
+        private final Map<String, Object> metadata;
+    }
+
+    /**
+     * 사용자별 판정 대기 항목 (첫 요청 시각 / 마지막 요청 시각 / 최신 지갑 주소, 불변)
+     */
+    private static final class PendingCheck {
+        private final long firstRequestedAt;
+        private final long lastRequestedAt;
+        private final String walletAddress;
+
+        PendingCheck(String walletAddress, long requestedAt) {
+            this(walletAddress, requestedAt, requestedAt);
+        }
+
+        private PendingCheck(String walletAddress, long firstRequestedAt, long lastRequestedAt) {
+            this.walletAddress = walletAddress;
+            this.firstRequestedAt = firstRequestedAt;
+            this.lastRequestedAt = lastRequestedAt;
+        }
+
+        // 기존 항목에 새 요청을 합친 항목 (첫 요청 시각 유지)
+        PendingCheck mergedWith(PendingCheck request) {
+            return new PendingCheck(request.walletAddress, firstRequestedAt, request.lastRequestedAt);
+        }
+
+        long dueAt(long debounceMs, long maxWaitMs) {
+            return Math.min(lastRequestedAt + debounceMs, firstRequestedAt + maxWaitMs);
+        }
+    }
+}
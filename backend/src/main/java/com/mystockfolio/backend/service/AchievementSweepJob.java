@@ -0,0 +1,304 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.Portfolio;
+import com.mystockfolio.backend.repository.AchievementHistoryRepository;
+import com.mystockfolio.backend.repository.PortfolioRepository;
+import com.mystockfolio.backend.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 야간 성과 일괄 판정
+ * - 자산 추가 때만 판정하면 90일 유지 같은 기간 성과는 자산을 추가하지 않는 사용자에게 발행되지 않음
+ * - 사용자 ID 구간을 partitions개로 나누고 동시에 concurrency개 구간만 처리
+ *   (작업 전용 스레드 SchedulerConfig.achievementSweepExecutor, 요청 스레드 미사용)
+ * - 구간 안에서는 지갑이 연결된 사용자를 ID keyset으로 chunk-size명씩 조회
+ *   → 묶음당 쿼리 3회 (사용자 / 포트폴리오+자산 / 보유 성과), DB 커넥션은 동시에 최대 concurrency개
+ * - 이미 보유한 성과는 묶음 단위로 미리 제외하고, 남은 발행 요청을 묶음 단위로 mint-concurrency개씩 보냄
+ *   (묶음의 발행이 끝난 뒤 다음 묶음 조회 → 블록체인 API보다 앞서 나가지 않음)
+ * - 여러 인스턴스 중 Redis 잠금을 얻은 한 곳에서만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementSweepJob {
+
+    private static final String LOCK_KEY = "achievement:sweep:lock";
+
+    private final UserRepository userRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final AchievementHistoryRepository achievementHistoryRepository;
+    private final AchievementDetectionService achievementDetectionService;
+    private final AchievementThresholdIndex thresholdIndex;
+    private final StringRedisTemplate redisTemplate;
+    @Qualifier("achievementSweepExecutor")
+    private final ThreadPoolTaskExecutor achievementSweepExecutor;
+
+    @Value("${achievement.sweep.enabled:true}")
+    private boolean enabled;
+
+    // 사용자 ID 구간 수 (구간별 진행은 독립적이므로 한 구간이 느려도 다른 구간은 계속 진행)
+    @Value("${achievement.sweep.partitions:16}")
+    private int partitions;
+
+    @Value("${achievement.sweep.chunk-size:500}")
+    private int chunkSize;
+
+    // 묶음당 동시 발행 요청 수
+    @Value("${achievement.sweep.mint-concurrency:4}")
+    private int mintConcurrency;
+
+    @Value("${achievement.sweep.mint-timeout-seconds:300}")
+    private long mintTimeoutSeconds;
+
+    // 묶음 사이 대기 시간 (DB/블록체인 API 부하 분산)
+    @Value("${achievement.sweep.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    // 실행 중 인스턴스가 종료돼도 이 시간 후 다음 실행 가능
+    @Value("${achievement.sweep.lock-ttl-minutes:360}")
+    private long lockTtlMinutes;
+
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong scannedUsers = new AtomicLong();
+    private final AtomicLong evaluatedUsers = new AtomicLong();
+    private final AtomicLong mintRequested = new AtomicLong();
+    private final AtomicLong mintFailed = new AtomicLong();
+    private final AtomicLong failedChunks = new AtomicLong();
+    private final AtomicInteger completedPartitions = new AtomicInteger();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile long lastDurationMs;
+
+    /**
+     * 판정 시작 (스케줄러 스레드는 작업을 넘기고 바로 반환)
+     */
+    @Scheduled(cron = "${achievement.sweep.cron:0 0 3 * * *}")
+    public void sweep() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        if (!acquireLock()) {
+            running.set(false);
+            return;
+        }
+
+        long maxUserId;
+        try {
+            maxUserId = userRepository.findMaxUserId();
+        } catch (Exception e) {
+            log.warn("성과 일괄 판정 시작 실패: {}", e.getMessage());
+            finish(false, System.currentTimeMillis());
+            return;
+        }
+
+        resetStats();
+        long start = System.currentTimeMillis();
+        int partitionCount = Math.max(1, partitions);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        long rangeSize = Math.max(1L, (maxUserId + partitionCount - 1) / partitionCount);
+        for (long from = 0; from < maxUserId; from += rangeSize) {
+            long afterId = from;
+            long upToId = Math.min(from + rangeSize, maxUserId);
+            tasks.add(CompletableFuture.runAsync(() -> sweepPartition(afterId, upToId), achievementSweepExecutor));
+        }
+        log.info("성과 일괄 판정 시작 - 최대 사용자 ID: {}, 구간: {}개, 동시 처리: {}",
+                maxUserId, tasks.size(), achievementSweepExecutor.getCorePoolSize());
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .whenComplete((unused, error) -> finish(true, start));
+    }
+
+    /**
+     * 사용자 ID 구간 (afterId, upToId] 처리
+     */
+    private void sweepPartition(long afterId, long upToId) {
+        long cursor = afterId;
+        while (running.get()) {
+            List<UserRepository.WalletUserView> users;
+            try {
+                users = userRepository.findWalletUsers(cursor, upToId, Limit.of(chunkSize));
+            } catch (Exception e) {
+                // 구간 조회 자체가 실패하면 이 구간은 다음 실행에서 다시 판정
+                failedChunks.incrementAndGet();
+                log.warn("성과 일괄 판정 사용자 조회 실패 - 구간: ({}, {}], {}", cursor, upToId, e.getMessage());
+                return;
+            }
+            if (users.isEmpty()) {
+                break;
+            }
+            cursor = users.get(users.size() - 1).getUserId();
+            try {
+                sweepChunk(users);
+            } catch (Exception e) {
+                failedChunks.incrementAndGet();
+                log.warn("성과 일괄 판정 묶음 실패 - 구간: ({}, {}], {}", afterId, upToId, e.getMessage());
+            }
+            if (users.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        completedPartitions.incrementAndGet();
+    }
+
+    private void sweepChunk(List<UserRepository.WalletUserView> users) {
+        scannedUsers.addAndGet(users.size());
+        Map<Long, String> wallets = new HashMap<>();
+        for (UserRepository.WalletUserView user : users) {
+            wallets.put(user.getUserId(), user.getWalletAddress());
+        }
+
+        Map<Long, List<Portfolio>> portfoliosByUser = new HashMap<>();
+        for (Portfolio portfolio : portfolioRepository.findByUserIdsWithAssets(wallets.keySet())) {
+            portfoliosByUser.computeIfAbsent(portfolio.getUser().getUserId(), id -> new ArrayList<>()).add(portfolio);
+        }
+        if (portfoliosByUser.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<String>> held = new HashMap<>();
+        for (AchievementHistoryRepository.HeldAchievementView row
+                : achievementHistoryRepository.findHeldAchievements(portfoliosByUser.keySet())) {
+            held.computeIfAbsent(row.getUserId(), id -> new HashSet<>()).add(row.getAchievementType());
+        }
+
+        List<MintIntent> intents = new ArrayList<>();
+        portfoliosByUser.forEach((userId, portfolios) -> {
+            evaluatedUsers.incrementAndGet();
+            Set<String> heldTypes = held.getOrDefault(userId, Set.of());
+            for (AchievementDetectionService.AchievementCandidate candidate
+                    : achievementDetectionService.evaluate(userId, portfolios)) {
+                if (!heldTypes.contains(candidate.getAchievementType())) {
+                    intents.add(new MintIntent(userId, wallets.get(userId), candidate));
+                }
+            }
+            // 남은 자리에만 추적 추가 (자산 추가로 판정된 활성 사용자를 밀어내지 않음)
+            thresholdIndex.track(userId, wallets.get(userId), portfolios, true);
+        });
+        if (!intents.isEmpty()) {
+            mintBatch(intents);
+        }
+    }
+
+    // 묶음의 발행 요청을 mint-concurrency개씩 보내고 모두 끝날 때까지 대기 (개별 실패는 다음 실행에서 재시도)
+    private void mintBatch(List<MintIntent> intents) {
+        mintRequested.addAndGet(intents.size());
+        Flux.fromIterable(intents)
+                .flatMap(intent -> Mono.defer(() -> achievementDetectionService.mint(intent.userId, intent.walletAddress, intent.candidate))
+                        .onErrorResume(error -> {
+                            mintFailed.incrementAndGet();
+                            log.warn("성과 일괄 판정 NFT 발행 실패 - userId: {}, achievementType: {}, {}",
+                                    intent.userId, intent.candidate.getAchievementType(), error.getMessage());
+                            return Mono.empty();
+                        }), Math.max(1, mintConcurrency))
+                .then()
+                .block(Duration.ofSeconds(mintTimeoutSeconds));
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+
+    private void finish(boolean started, long start) {
+        if (started) {
+            lastDurationMs = System.currentTimeMillis() - start;
+            lastFinishedAt = LocalDateTime.now();
+            log.info("성과 일괄 판정 완료 - 확인: {}명, 판정: {}명, 발행 요청: {}건 (실패 {}건), 실패 묶음: {}, 소요: {}ms",
+                    scannedUsers.get(), evaluatedUsers.get(), mintRequested.get(), mintFailed.get(),
+                    failedChunks.get(), lastDurationMs);
+        }
+        releaseLock();
+        running.set(false);
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, lockOwner, Duration.ofMinutes(lockTtlMinutes)));
+        } catch (Exception e) {
+            // 잠금을 확인할 수 없으면 중복 실행을 피하기 위해 이번 실행은 건너뜀
+            log.warn("성과 일괄 판정 잠금 실패, 이번 실행을 건너뜁니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            if (lockOwner.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.debug("성과 일괄 판정 잠금 해제 실패 (TTL 후 만료): {}", e.getMessage());
+        }
+    }
+
+    private void resetStats() {
+        scannedUsers.set(0);
+        evaluatedUsers.set(0);
+        mintRequested.set(0);
+        mintFailed.set(0);
+        failedChunks.set(0);
+        completedPartitions.set(0);
+        lastStartedAt = LocalDateTime.now();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("running", running.get());
+        stats.put("lastStartedAt", Objects.toString(lastStartedAt, null));
+        stats.put("lastFinishedAt", Objects.toString(lastFinishedAt, null));
+        stats.put("lastDurationMs", lastDurationMs);
+        stats.put("completedPartitions", completedPartitions.get());
+        stats.put("scannedUsers", scannedUsers.get());
+        stats.put("evaluatedUsers", evaluatedUsers.get());
+        stats.put("mintRequested", mintRequested.get());
+        stats.put("mintFailed", mintFailed.get());
+        stats.put("failedChunks", failedChunks.get());
+        return stats;
+    }
+
+    @AllArgsConstructor
+    private static class MintIntent {
+        private final Long userId;
+        private final String walletAddress;
+        private final AchievementDetectionService.AchievementCandidate candidate;
+    }
+}
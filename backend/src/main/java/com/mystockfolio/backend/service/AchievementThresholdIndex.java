@@ -0,0 +1,356 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.Asset;
+import com.mystockfolio.backend.domain.entity.Portfolio;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수익률 성과 기준 도달 감지 (시세 틱 기반)
+ * - 사용자마다 아직 도달하지 않은 다음 수익률 기준(10/20/50/100%)과 그에 필요한 평가금액을 보관
+ * - 필요한 평가금액까지의 차이(gap)를 보유 티커별 평가금액 비중대로 나눠 티커별 "기준 가격"으로 환산
+ *   → 티커 t의 기준 가격 = 기준 시점 가격 × (1 + gap / 평가금액)
+ *   → 합계가 gap을 넘었다면 적어도 한 티커는 자기 몫을 넘었으므로, 기준 가격을 넘은 티커만 보면 놓치지 않음
+ * - 티커별 기준 가격을 정렬 구조(TreeSet)에 두고, 틱 가격 이하인 항목만 꺼내 재계산
+ *   → 틱 처리 비용이 보유자 수가 아니라 기준 가격을 넘은 사용자 수에 비례
+ * - 재계산 결과 기준을 넘었으면 ThresholdCrossedEvent 발행 (성과 판정 요청), 아니면 현재 가격으로 기준 가격 재설정
+ * - 추적 대상: 성과 판정을 거친 지갑 연결 사용자 (자산 추가 판정 / 야간 일괄 판정), LRU로 최대 max-users명
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AchievementThresholdIndex {
+
+    private static final Comparator<Trigger> TRIGGER_ORDER =
+            Comparator.comparingDouble(Trigger::price).thenComparingLong(Trigger::userId);
+
+    private final PriceTickBus priceTickBus;
+    private final MarketPriceCacheService priceCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${achievement.threshold.max-users:100000}")
+    private int maxUsers;
+
+    @Value("${achievement.threshold.tick.buffer-size:10000}")
+    private int tickBufferSize;
+
+    @Value("${achievement.threshold.tick.batch-size:500}")
+    private int tickBatchSize;
+
+    @Value("${achievement.threshold.tick.batch-window-ms:200}")
+    private long tickBatchWindowMs;
+
+    // 아래 구조는 모두 lock 안에서만 접근 (잠금 구간은 메모리 연산만 수행)
+    private final Object lock = new Object();
+    private final Map<String, TreeSet<Trigger>> triggersByTicker = new HashMap<>();
+    private final Map<String, Double> lastPrices = new HashMap<>();
+    private final Map<Long, TrackedUser> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TrackedUser> eldest) {
+            if (size() > maxUsers) {
+                removeTriggers(eldest.getValue());
+                evicted.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong rechecked = new AtomicLong();
+    private final AtomicLong crossed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    @PostConstruct
+    void subscribePriceTicks() {
+        // 버퍼 초과 시 오래된 틱을 버림 (기준 도달은 가격 수준으로 판단하므로 최신 틱만 있으면 됨)
+        priceTickBus.subscribe("achievement-threshold", tickBufferSize, BufferOverflowStrategy.DROP_OLDEST,
+                tickBatchSize, Duration.ofMillis(tickBatchWindowMs), this::onPriceTicks);
+    }
+
+    /**
+     * 추적 시작/갱신 (자산이 로드된 포트폴리오 필요, 이미 도달한 기준은 건너뛰고 다음 기준부터 추적)
+     * @param onlyIfRoom true면 추적 인원이 가득 찼을 때 새 사용자를 추가하지 않음 (일괄 판정이 활성 사용자를 밀어내지 않도록)
+     */
+    public void track(Long userId, String walletAddress, List<Portfolio> portfolios, boolean onlyIfRoom) {
+        Map<Long, Holding> holdings = new HashMap<>();
+        for (Portfolio portfolio : portfolios) {
+            for (Asset asset : portfolio.getAssets()) {
+                if (asset.getQuantity() != null && asset.getQuantity() > 0 && asset.getAvgBuyPrice() != null) {
+                    holdings.put(asset.getId(), new Holding(asset.getTicker().toUpperCase(),
+                            asset.getQuantity(), asset.getAvgBuyPrice()));
+                }
+            }
+        }
+        if (holdings.isEmpty()) {
+            untrack(userId);
+            return;
+        }
+        loadMissingPrices(holdings);
+
+        synchronized (lock) {
+            TrackedUser user = users.get(userId);
+            if (user == null) {
+                if (onlyIfRoom && users.size() >= maxUsers) {
+                    return;
+                }
+                user = new TrackedUser(userId);
+                users.put(userId, user);
+            } else {
+                removeTriggers(user);
+            }
+            user.walletAddress = walletAddress;
+            user.holdings = holdings;
+            user.nextThreshold = 0;
+            // 방금 판정을 마친 상태이므로 이미 넘은 기준은 알리지 않음
+            rekey(user);
+        }
+    }
+
+    public void untrack(Long userId) {
+        synchronized (lock) {
+            TrackedUser user = users.remove(userId);
+            if (user != null) {
+                removeTriggers(user);
+            }
+        }
+    }
+
+    /**
+     * 가격 변동 반영: 틱 가격 이하의 기준 가격을 가진 사용자만 재계산
+     */
+    void onPriceTicks(List<PriceTickBus.PriceTick> batch) {
+        Map<String, Double> prices = new LinkedHashMap<>();
+        for (PriceTickBus.PriceTick tick : batch) {
+            prices.put(tick.getTicker(), tick.getPrice());
+        }
+        ticks.addAndGet(batch.size());
+
+        List<ThresholdCrossedEvent> events = new ArrayList<>();
+        synchronized (lock) {
+            prices.forEach(lastPrices::put);
+            Set<Long> candidates = new HashSet<>();
+            for (Map.Entry<String, Double> entry : prices.entrySet()) {
+                TreeSet<Trigger> triggers = triggersByTicker.get(entry.getKey());
+                if (triggers == null) {
+                    continue;
+                }
+                for (Trigger trigger : triggers.headSet(new Trigger(Long.MAX_VALUE, entry.getValue()), true)) {
+                    candidates.add(trigger.userId);
+                }
+            }
+            for (Long userId : candidates) {
+                TrackedUser user = users.get(userId);
+                if (user == null) {
+                    continue;
+                }
+                rechecked.incrementAndGet();
+                if (rekey(user)) {
+                    crossed.incrementAndGet();
+                    events.add(new ThresholdCrossedEvent(userId, user.walletAddress));
+                }
+            }
+        }
+        events.forEach(eventPublisher::publishEvent);
+    }
+
+    /**
+     * 커밋된 보유 변경 반영 (수량/매입가 변경으로 기준을 넘을 수도 있음)
+     */
+    @EventListener
+    public void onHoldingsChanged(TickerHolderIndex.HoldingsChangedEvent event) {
+        ThresholdCrossedEvent crossedEvent = null;
+        synchronized (lock) {
+            TrackedUser user = users.get(event.getUserId());
+            if (user == null) {
+                return;
+            }
+            if (event.isDeletion()) {
+                event.getDeletedAssetIds().forEach(user.holdings::remove);
+            } else if (event.getQuantity() > 0) {
+                user.holdings.put(event.getAssetId(),
+                        new Holding(event.getTicker().toUpperCase(), event.getQuantity(), event.getAvgBuyPrice()));
+            } else {
+                user.holdings.remove(event.getAssetId());
+            }
+            if (user.holdings.isEmpty()) {
+                users.remove(user.userId);
+                removeTriggers(user);
+                return;
+            }
+            if (rekey(user)) {
+                crossed.incrementAndGet();
+                crossedEvent = new ThresholdCrossedEvent(user.userId, user.walletAddress);
+            }
+        }
+        if (crossedEvent != null) {
+            eventPublisher.publishEvent(crossedEvent);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lock) {
+            stats.put("trackedUsers", users.size());
+            stats.put("tickers", triggersByTicker.size());
+            stats.put("triggers", triggersByTicker.values().stream().mapToInt(TreeSet::size).sum());
+        }
+        stats.put("ticks", ticks.get());
+        stats.put("rechecked", rechecked.get());
+        stats.put("crossed", crossed.get());
+        stats.put("evicted", evicted.get());
+        return stats;
+    }
+
+    // 추적 중 가격이 한 번도 관측되지 않은 티커는 캐시 가격으로 채움 (없으면 매입가로 평가)
+    private void loadMissingPrices(Map<Long, Holding> holdings) {
+        Set<String> missing = new HashSet<>();
+        synchronized (lock) {
+            for (Holding holding : holdings.values()) {
+                if (!lastPrices.containsKey(holding.ticker)) {
+                    missing.add(holding.ticker);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<String, Double> prices = new HashMap<>();
+        try {
+            prices.putAll(priceCacheService.getCachedPrices(missing));
+            List<String> stillMissing = new ArrayList<>();
+            for (String ticker : missing) {
+                if (!prices.containsKey(ticker)) stillMissing.add(ticker);
+            }
+            if (!stillMissing.isEmpty()) {
+                priceCacheService.getLastKnownPrices(stillMissing).forEach((ticker, snapshot) -> prices.put(ticker, snapshot.getPrice()));
+            }
+        } catch (Exception e) {
+            log.debug("성과 기준 추적 가격 조회 실패: {}", e.getMessage());
+        }
+        synchronized (lock) {
+            // 그 사이 틱으로 들어온 가격이 더 최신
+            prices.forEach(lastPrices::putIfAbsent);
+        }
+    }
+
+    /**
+     * 현재 가격으로 다음 기준과 티커별 기준 가격 재설정 (lock 안에서 호출)
+     * @return 추적 중이던 기준을 넘었으면 true
+     */
+    private boolean rekey(TrackedUser user) {
+        removeTriggers(user);
+
+        // 티커별 수량 / 매입 금액 합계
+        Map<String, double[]> positions = new HashMap<>();
+        for (Holding holding : user.holdings.values()) {
+            double[] position = positions.computeIfAbsent(holding.ticker, ticker -> new double[2]);
+            position[0] += holding.quantity;
+            position[1] += holding.quantity * holding.avgBuyPrice;
+        }
+        double costBasis = 0.0;
+        double marketValue = 0.0;
+        Map<String, Double> referencePrices = new HashMap<>();
+        for (Map.Entry<String, double[]> entry : positions.entrySet()) {
+            double[] position = entry.getValue();
+            // 가격 기록이 없으면 매입가로 평가 (PortfolioValuationService.evaluateReturn 과 같은 기준)
+            double price = lastPrices.getOrDefault(entry.getKey(), position[1] / position[0]);
+            referencePrices.put(entry.getKey(), price);
+            costBasis += position[1];
+            marketValue += position[0] * price;
+        }
+        if (costBasis <= 0) {
+            users.remove(user.userId);
+            return false;
+        }
+
+        double[] thresholds = AchievementDetectionService.RETURN_RATE_THRESHOLDS;
+        double returnRate = (marketValue - costBasis) / costBasis * 100.0;
+        boolean passed = false;
+        while (user.nextThreshold < thresholds.length && returnRate >= thresholds[user.nextThreshold]) {
+            user.nextThreshold++;
+            passed = true;
+        }
+        if (user.nextThreshold >= thresholds.length) {
+            // 모든 기준 도달: 더 추적할 기준 없음
+            users.remove(user.userId);
+            return passed;
+        }
+
+        double requiredValue = costBasis * (1 + thresholds[user.nextThreshold] / 100.0);
+        double gap = requiredValue - marketValue;
+        for (Map.Entry<String, double[]> entry : positions.entrySet()) {
+            double quantity = entry.getValue()[0];
+            double price = referencePrices.get(entry.getKey());
+            // gap을 평가금액 비중대로 나눈 몫만큼 오르는 가격 (평가금액이 0이면 균등 분배)
+            double share = marketValue > 0 ? gap * (quantity * price) / marketValue : gap / positions.size();
+            Trigger trigger = new Trigger(user.userId, price + share / quantity);
+            triggersByTicker.computeIfAbsent(entry.getKey(), ticker -> new TreeSet<>(TRIGGER_ORDER)).add(trigger);
+            user.triggers.put(entry.getKey(), trigger);
+        }
+        return passed;
+    }
+
+    // lock 안에서 호출
+    private void removeTriggers(TrackedUser user) {
+        for (Map.Entry<String, Trigger> entry : user.triggers.entrySet()) {
+            TreeSet<Trigger> triggers = triggersByTicker.get(entry.getKey());
+            if (triggers != null) {
+                triggers.remove(entry.getValue());
+                if (triggers.isEmpty()) {
+                    triggersByTicker.remove(entry.getKey());
+                }
+            }
+        }
+        user.triggers.clear();
+    }
+
+    /**
+     * 추적 중이던 수익률 기준을 넘음 (성과 판정 요청)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ThresholdCrossedEvent {
+        private final Long userId;
+        private final String walletAddress;
+    }
+
+    private static final class TrackedUser {
+        private final long userId;
+        private String walletAddress;
+        private Map<Long, Holding> holdings = new HashMap<>();
+        private int nextThreshold;
+        // 티커 → 등록된 기준 가격 (재설정 시 제거용)
+        private final Map<String, Trigger> triggers = new HashMap<>();
+
+        TrackedUser(long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private record Holding(String ticker, double quantity, double avgBuyPrice) {
+    }
+
+    private record Trigger(long userId, double price) {
+    }
+}
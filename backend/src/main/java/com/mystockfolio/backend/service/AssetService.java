@@ -4,21 +4,16 @@ package com.mystockfolio.backend.service;
 
 import com.mystockfolio.backend.domain.entity.Asset;
 import com.mystockfolio.backend.domain.entity.Portfolio;
-import com.mystockfolio.backend.domain.entity.User;
 import com.mystockfolio.backend.dto.AssetDto;
 import com.mystockfolio.backend.repository.AssetRepository;
 import com.mystockfolio.backend.repository.PortfolioRepository;
-import com.mystockfolio.backend.repository.UserRepository;
 import com.mystockfolio.backend.exception.ResourceNotFoundException;
 import com.mystockfolio.backend.exception.ForbiddenException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,9 +22,10 @@ public class AssetService {
 
     private final AssetRepository assetRepository;
     private final PortfolioRepository portfolioRepository;
-    private final UserRepository userRepository;
-    private final RewardService rewardService;
+    private final RewardOutboxService rewardOutboxService;
     private final AchievementDetectionService achievementDetectionService;
+    private final PortfolioValuationService valuationService;
+    private final TickerHolderIndex holderIndex;
     
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AssetService.class);
 
@@ -72,31 +68,17 @@ public class AssetService {
         // 3. 자산 저장
         Asset savedAsset = assetRepository.save(asset);
         portfolio.addAsset(savedAsset);
+        // 평가 스냅샷에 신규 자산 반영 (커밋 후)
+        valuationService.onAssetSaved(userId, savedAsset);
+        holderIndex.onAssetSaved(userId, savedAsset);
 
-        // 4. 블록체인 리워드 민팅 (비동기, 실패해도 자산 추가는 성공)
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null && user.getWalletAddress() != null && !user.getWalletAddress().isEmpty()) {
-                List<Portfolio> allPortfolios = portfolioRepository.findByUserIdWithAssets(userId);
-                List<Map<String, Object>> portfolioAssets = convertToMapFormat(allPortfolios);
-                
-                rewardService.mintActivityReward(
-                    userId,
-                    user.getWalletAddress(),
-                    "asset_added",
-                    portfolioAssets
-                ).subscribe(
-                    response -> log.info("자산 추가 리워드 민팅 완료: {} FOLIO", response.getAmount()),
-                    error -> log.warn("자산 추가 리워드 민팅 실패: {}", error.getMessage())
-                );
-                
-                // 성과 감지 (비동기)
-                achievementDetectionService.checkAndMintAchievements(userId, user.getWalletAddress());
-            } else {
-                log.debug("지갑 주소가 등록되지 않은 사용자: userId={}", userId);
-            }
-        } catch (Exception e) {
-            log.error("리워드 민팅 중 오류 발생 (자산 추가는 성공): {}", e.getMessage());
+        // 4. 블록체인 리워드 민팅: 같은 트랜잭션에서 아웃박스에 기록만 하고 백그라운드에서 일괄 처리
+        rewardOutboxService.enqueue(userId, "asset_added");
+
+        // 성과 감지 (커밋 후 접수, 연속 추가는 사용자별로 묶어서 1회 판정)
+        String walletAddress = portfolio.getUser().getWalletAddress();
+        if (walletAddress != null && !walletAddress.isEmpty()) {
+            achievementDetectionService.requestCheck(userId, walletAddress);
         }
 
         return AssetDto.AssetResponse.fromEntity(savedAsset);
@@ -121,6 +103,10 @@ public class AssetService {
             }
         }
 
+        // 평가 스냅샷의 기존 포지션을 수정된 값으로 교체 (커밋 후)
+        valuationService.onAssetSaved(userId, asset);
+        holderIndex.onAssetSaved(userId, asset);
+
         return AssetDto.AssetResponse.fromEntity(asset);
     }
 
@@ -134,29 +120,9 @@ public class AssetService {
         }
 
         assetRepository.delete(asset);
+        valuationService.onAssetDeleted(userId, assetId);
+        holderIndex.onAssetsDeleted(userId, List.of(assetId));
     }
 
     // 이름 조회 제한은 제거되었습니다. 향후 시세/메타데이터 연동 시 MarketDataClient 사용 예정.
-    
-    /**
-     * 포트폴리오 리스트를 RewardService용 Map 형식으로 변환
-     */
-    private List<Map<String, Object>> convertToMapFormat(List<Portfolio> portfolios) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        
-        for (Portfolio portfolio : portfolios) {
-            for (Asset asset : portfolio.getAssets()) {
-                Map<String, Object> assetData = new HashMap<>();
-                assetData.put("ticker", asset.getTicker());
-                assetData.put("assetType", asset.getAssetType().name());
-                assetData.put("name", asset.getName());
-                assetData.put("quantity", asset.getQuantity());
-                assetData.put("currentPrice", asset.getAvgBuyPrice()); // 간단히 매입가 사용
-                
-                result.add(assetData);
-            }
-        }
-        
-        return result;
-    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider; // JwtTokenProvider 주입
+    private final CustomUserDetailsService userDetailsService;
 
     // 회원가입 (변경 없음)
     @Transactional
@@ -102,6 +103,7 @@ public class AuthService {
         user.completeOauth2Signup(); // OAuth2 회원가입 완료 플래그 해제
 
         User savedUser = userRepository.save(user);
+        userDetailsService.evict(savedUser);
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.generateToken(savedUser.getUserId());
@@ -0,0 +1,190 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.dto.BlockchainDto;
+import com.mystockfolio.backend.repository.AchievementHistoryRepository;
+import com.mystockfolio.backend.repository.RewardHistoryRepository;
+import com.mystockfolio.backend.util.BoundedTtlCache;
+import com.mystockfolio.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 리워드/NFT 히스토리 페이지 조회
+ * - 커서(keyset) 페이지: (created_at, id) 역순으로 정렬하고 마지막 행 위치에서 이어서 조회
+ *   → OFFSET이 없어 몇 번째 페이지든 읽는 행 수가 페이지 크기와 같음
+ * - 엔티티 대신 응답에 필요한 컬럼만 조회 (User 연관관계 로딩 없음)
+ * - 전체 개수는 사용자별로 메모리에 캐시하고, 이 인스턴스에서 이력이 저장되면 커밋 후 폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockchainHistoryService {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final RewardHistoryRepository rewardHistoryRepository;
+    private final AchievementHistoryRepository achievementHistoryRepository;
+
+    @Value("${history.page-size.default:20}")
+    private int defaultPageSize;
+
+    @Value("${history.page-size.max:100}")
+    private int maxPageSize;
+
+    // 전체 개수 캐시: 다른 인스턴스에서 저장된 이력은 TTL 이후 반영
+    @Value("${history.count-cache.ttl-seconds:300}")
+    private long countTtlSeconds;
+
+    @Value("${history.count-cache.max-entries:10000}")
+    private int countMaxEntries;
+
+    private BoundedTtlCache<String, Integer> countCache;
+
+    @PostConstruct
+    public void init() {
+        this.countCache = new BoundedTtlCache<>(countMaxEntries);
+    }
+
+    @Transactional(readOnly = true)
+    public BlockchainDto.RewardHistoryResponse getRewardHistory(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Cursor after = Cursor.decode(cursor);
+        // 한 행 더 조회해 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+        List<RewardHistoryRepository.RewardHistoryView> rows = after == null
+                ? rewardHistoryRepository.findPageByUserId(userId, limit)
+                : rewardHistoryRepository.findPageByUserIdAfter(userId, after.createdAt, after.id, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        List<BlockchainDto.RewardHistoryItem> items = rows.stream()
+                .map(row -> BlockchainDto.RewardHistoryItem.builder()
+                        .activity(row.getActivityType())
+                        .amount(row.getAmount())
+                        .timestamp(row.getCreatedAt().format(TIMESTAMP_FORMAT))
+                        .transactionHash(row.getTransactionHash())
+                        .tokenType("ERC-20")
+                        .build())
+                .toList();
+
+        RewardHistoryRepository.RewardHistoryView last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return BlockchainDto.RewardHistoryResponse.builder()
+                .rewards(items)
+                .totalCount(cachedCount("reward:" + userId, () -> rewardHistoryRepository.countByUserId(userId)))
+                .nextCursor(hasNext ? Cursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public BlockchainDto.AchievementHistoryResponse getAchievementHistory(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        List<AchievementHistoryRepository.AchievementHistoryView> rows = after == null
+                ? achievementHistoryRepository.findPageByUserId(userId, limit)
+                : achievementHistoryRepository.findPageByUserIdAfter(userId, after.createdAt, after.id, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        List<BlockchainDto.AchievementHistoryItem> items = rows.stream()
+                .map(row -> BlockchainDto.AchievementHistoryItem.builder()
+                        .achievementType(row.getAchievementType())
+                        .tokenId(row.getTokenId())
+                        .timestamp(row.getCreatedAt().format(TIMESTAMP_FORMAT))
+                        .transactionHash(row.getTransactionHash())
+                        .tokenType("ERC-721")
+                        .metadata(row.getMetadata())
+                        .build())
+                .toList();
+
+        AchievementHistoryRepository.AchievementHistoryView last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return BlockchainDto.AchievementHistoryResponse.builder()
+                .achievements(items)
+                .totalCount(cachedCount("achievement:" + userId, () -> achievementHistoryRepository.countByUserId(userId)))
+                .nextCursor(hasNext ? Cursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 리워드 이력 저장 후 개수 캐시 폐기 (커밋 후)
+     */
+    public void onRewardsSaved(Collection<Long> userIds) {
+        List<String> keys = userIds.stream().map(userId -> "reward:" + userId).toList();
+        TransactionUtils.afterCommit(() -> evict(keys));
+    }
+
+    /**
+     * 성과 이력 저장 후 개수 캐시 폐기 (커밋 후)
+     */
+    public void onAchievementSaved(Long userId) {
+        TransactionUtils.afterCommit(() -> evict(List.of("achievement:" + userId)));
+    }
+
+    private void evict(Collection<String> keys) {
+        keys.forEach(countCache::remove);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private int cachedCount(String key, LongSupplier loader) {
+        Integer cached = countCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // 동시에 만료되면 중복 COUNT가 있을 수 있으나 결과는 같음
+        int count = (int) Math.min(loader.getAsLong(), Integer.MAX_VALUE);
+        countCache.put(key, count, countTtlSeconds * 1000);
+        return count;
+    }
+
+    /**
+     * 페이지 커서: 마지막 행의 (createdAt, id)를 Base64URL로 인코딩 (클라이언트는 그대로 전달만 함)
+     */
+    private record Cursor(LocalDateTime createdAt, Long id) {
+
+        static String encode(LocalDateTime createdAt, Long id) {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+            }
+        }
+    }
+}
@@ -3,7 +3,15 @@ package com.mystockfolio.backend.service;
 import com.mystockfolio.backend.config.JwtAuthenticationFilter;
 import com.mystockfolio.backend.domain.entity.User;
 import com.mystockfolio.backend.repository.UserRepository;
+import com.mystockfolio.backend.util.BoundedTtlCache;
+import com.mystockfolio.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,13 +19,84 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * 사용자 인증 정보(principal) 로드
+ * - JWT 필터는 loadPrincipal로 조회: JWT subject(이메일 또는 사용자 ID) 기준 메모리 캐시 (짧은 TTL, 근사 LRU)
+ *   → 캐시 적중 시 인증 요청당 users 조회 없음, 조회 경로에 전역 락 없음
+ * - 프로필/지갑 변경, 계정 삭제 시 커밋 후 캐시 폐기 + PrincipalInvalidatedEvent로 다른 인스턴스에도 전파
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 전파가 유실돼도 이 시간 안에는 DB 상태로 수렴
+    @Value("${auth.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${auth.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // 운영 통계(/api/health/**) 조회 권한(ROLE_ADMIN)을 받을 사용자 이메일 (콤마 구분, 기본 없음)
+    @Value("${auth.admin-emails:}")
+    private Set<String> adminEmails = Set.of();
+
+    private BoundedTtlCache<String, UserDetails> principalCache;
+
+    @PostConstruct
+    public void init() {
+        this.principalCache = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * JWT subject로 principal 조회 (캐시 우선)
+     * - subject가 이메일이면 이메일, 아니면 사용자 ID로 조회
+     * - 트랜잭션 없이 호출 (캐시 적중 시 DB 커넥션을 잡지 않음)
+     */
+    public UserDetails loadPrincipal(String subject) {
+        UserDetails cached = principalCache.get(subject);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails principal = subject.contains("@")
+                ? loadUserByUsername(subject)
+                : loadUserById(Long.parseLong(subject));
+        principalCache.put(subject, principal, ttlSeconds * 1000);
+        return principal;
+    }
+
+    /**
+     * 사용자 정보 변경/삭제 후 principal 캐시 폐기 (커밋 후, 다른 인스턴스에도 전파)
+     * - 토큰 subject가 이메일/사용자 ID 어느 쪽이든 폐기되도록 두 키 모두 제거
+     */
+    public void evict(User user) {
+        List<String> subjects = List.of(user.getEmail(), String.valueOf(user.getUserId()));
+        TransactionUtils.afterCommit(() -> {
+            evictLocal(subjects);
+            eventPublisher.publishEvent(new PrincipalInvalidatedEvent(subjects));
+        });
+    }
+
+    /**
+     * 이 인스턴스의 캐시만 폐기 (다른 인스턴스에서 전파된 변경)
+     */
+    public void evictLocal(Collection<String> subjects) {
+        subjects.forEach(principalCache::remove);
+    }
+
+    public Map<String, Object> getStats() {
+        return principalCache.stats();
+    }
 
     // 사용자 ID(Long 타입)를 기반으로 CustomUserDetails 객체를 로드하는 메서드
     @Transactional(readOnly = true)
@@ -30,7 +109,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 user.getEmail(),
                 user.getPassword() == null ? "" : user.getPassword(),
                 user.getUserId(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                authoritiesFor(user)
         );
     }
 
@@ -46,7 +125,25 @@ public class CustomUserDetailsService implements UserDetailsService {
                 user.getEmail(),
                 user.getPassword() == null ? "" : user.getPassword(),
                 user.getUserId(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                authoritiesFor(user)
         );
     }
-}
\ No newline at end of file
+
+    // 모든 사용자는 ROLE_USER, 설정된 관리자 이메일이면 ROLE_ADMIN 추가
+    private List<SimpleGrantedAuthority> authoritiesFor(User user) {
+        boolean admin = user.getEmail() != null && adminEmails != null
+                && adminEmails.stream().anyMatch(email -> email.equalsIgnoreCase(user.getEmail()));
+        return admin
+                ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                : Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+
+    /**
+     * principal 캐시 폐기 알림 (커밋 후 발행, RedisEventRelay가 다른 인스턴스로 전파)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PrincipalInvalidatedEvent {
+        private final List<String> subjects;
+    }
+}
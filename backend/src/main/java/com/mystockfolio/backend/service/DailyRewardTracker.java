@@ -0,0 +1,120 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.repository.RewardHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일일 리워드 지급 여부 (Redis 비트맵)
+ * - 키: reward:daily:{활동}:{yyyyMMdd}, 비트 위치: userId → 조회/기록 O(1), 사용자 100만 명당 약 125KB
+ * - 대시보드 조회 경로는 비트만 확인하고 MySQL을 조회하지 않음
+ * - 민팅 경로는 비트가 없을 때만 DB로 한 번 더 확인 (Redis 재시작/기록 실패 대비)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyRewardTracker {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RewardHistoryRepository rewardHistoryRepository;
+
+    // 날짜가 바뀐 뒤에도 하루 더 남겨 자정 전후 요청을 처리
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private static String keyFor(String activityType, LocalDate date) {
+        return "reward:daily:" + activityType + ":" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 오늘 지급 기록이 비트맵에 있는지 (Redis 장애 시 false - 최종 확인은 민팅 시 수행)
+     */
+    public boolean isMarkedToday(Long userId, String activityType) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(keyFor(activityType, LocalDate.now()), userId));
+        } catch (Exception e) {
+            log.debug("일일 리워드 비트맵 조회 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 오늘 이미 지급받은 사용자 (비트맵 → 비트가 없는 사용자만 DB 확인, 민팅 경로용)
+     * - Redis 파이프라인 GETBIT 1회 + 필요 시 구간 조회 1회
+     */
+    public Set<Long> findRewardedToday(Collection<Long> userIds, String activityType) {
+        Set<Long> rewarded = new HashSet<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return rewarded;
+        }
+        LocalDate today = LocalDate.now();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        List<Long> unmarked = new ArrayList<>();
+        try {
+            byte[] key = keyFor(activityType, today).getBytes(StandardCharsets.UTF_8);
+            List<Object> bits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : ids) {
+                    connection.stringCommands().getBit(key, userId);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                if (Boolean.TRUE.equals(bits.get(i))) {
+                    rewarded.add(ids.get(i));
+                } else {
+                    unmarked.add(ids.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("일일 리워드 비트맵 조회 실패: {}", e.getMessage());
+            unmarked = ids;
+        }
+        if (unmarked.isEmpty()) {
+            return rewarded;
+        }
+
+        List<Long> fromDb = rewardHistoryRepository.findRewardedUserIds(
+                unmarked, activityType, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        if (!fromDb.isEmpty()) {
+            // 비트맵이 비어 있던 경우(재시작 등) 다음 조회부터는 Redis에서 응답
+            rewarded.addAll(fromDb);
+            markRewardedToday(fromDb, activityType);
+        }
+        return rewarded;
+    }
+
+    /**
+     * 오늘 지급 기록 (파이프라인 SETBIT + EXPIRE, Redis 왕복 1회)
+     */
+    public void markRewardedToday(Collection<Long> userIds, String activityType) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        byte[] key = keyFor(activityType, LocalDate.now()).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    connection.stringCommands().setBit(key, userId, true);
+                }
+                connection.keyCommands().expire(key, KEY_TTL.getSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            // 기록 실패 시 다음 민팅에서 DB 확인으로 중복 지급 방지
+            log.warn("일일 리워드 비트맵 기록 실패 - activity: {}, {}", activityType, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.repository.AchievementHistoryRepository;
+import com.mystockfolio.backend.util.BoundedTtlCache;
+import com.mystockfolio.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 보유 성과 비트셋 (중복 발행 확인용)
+ * - 성과 유형마다 비트 1개, 사용자당 int 1개 (근사 LRU, 메모리 보관)
+ * - 비트가 있으면 DB 조회 없이 보유로 판단 (성과는 회수되지 않으므로 다른 인스턴스와 어긋나도 안전)
+ * - 비트가 없으면 (user_id, achievement_type) 인덱스만 읽는 exists 쿼리로 확인 (엔티티/metadata 로딩 없음)
+ *   → 다른 인스턴스에서 발행된 성과도 놓치지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeldAchievementIndex {
+
+    // 비트 위치 = 목록 순서 (목록에 없는 유형은 매번 exists 쿼리로 확인)
+    private static final List<String> ACHIEVEMENT_TYPES = List.of(
+            "portfolio_maintained_90days",
+            "return_rate_10percent",
+            "return_rate_20percent",
+            "return_rate_50percent",
+            "return_rate_100percent"
+    );
+
+    private final AchievementHistoryRepository achievementHistoryRepository;
+
+    @Value("${achievement.held-index.max-entries:100000}")
+    private int maxEntries;
+
+    private BoundedTtlCache<Long, Integer> heldBits;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong dbChecks = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        this.heldBits = new BoundedTtlCache<>(maxEntries);
+    }
+
+    /**
+     * 사용자가 해당 성과를 이미 보유했는지
+     */
+    public boolean isHeld(Long userId, String achievementType) {
+        int bit = ACHIEVEMENT_TYPES.indexOf(achievementType);
+        if (bit >= 0) {
+            Integer bits = heldBits.get(userId);
+            if (bits != null && (bits & (1 << bit)) != 0) {
+                hits.incrementAndGet();
+                return true;
+            }
+        }
+        dbChecks.incrementAndGet();
+        boolean held = achievementHistoryRepository.existsByUserIdAndAchievementType(userId, achievementType);
+        if (held) {
+            setBit(userId, bit);
+        }
+        return held;
+    }
+
+    /**
+     * 성과 이력 저장 후 보유 표시 (커밋 후)
+     */
+    public void markHeld(Long userId, String achievementType) {
+        int bit = ACHIEVEMENT_TYPES.indexOf(achievementType);
+        if (bit >= 0) {
+            TransactionUtils.afterCommit(() -> setBit(userId, bit));
+        }
+    }
+
+    private void setBit(Long userId, int bit) {
+        if (bit < 0) {
+            return;
+        }
+        heldBits.merge(userId, 1 << bit, (current, added) -> current | added);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", heldBits.size());
+        stats.put("hits", hits.get());
+        stats.put("dbChecks", dbChecks.get());
+        return stats;
+    }
+}
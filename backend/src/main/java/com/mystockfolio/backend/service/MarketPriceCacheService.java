@@ -1,9 +1,22 @@
 package com.mystockfolio.backend.service;
 
+import com.mystockfolio.backend.util.BoundedTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -12,16 +25,72 @@ public class MarketPriceCacheService {
 
     private final StringRedisTemplate redisTemplate;
 
+    // 로컬(JVM) 캐시 최대 항목 수
+    @Value("${price.cache.near.max-size:2000}")
+    private int nearCacheMaxSize;
+
+    // 로컬(JVM) 캐시 TTL: Redis TTL(60초)보다 짧게 유지
+    @Value("${price.cache.near.ttl-seconds:10}")
+    private long nearCacheTtlSeconds;
+
+    // 마지막 정상 가격(last-known-good) 보관 기간: 시세 서비스 장애 시 대체값으로 사용
+    @Value("${price.cache.last-known.ttl-hours:168}")
+    private long lastKnownTtlHours;
+
+    private BoundedTtlCache<String, NearEntry> nearCache;
+
+    @PostConstruct
+    public void init() {
+        this.nearCache = new BoundedTtlCache<>(nearCacheMaxSize);
+    }
+
+    private Double nearPrice(String key) {
+        NearEntry entry = nearCache.get(key);
+        return entry != null ? entry.price() : null;
+    }
+
     private String keyForTicker(String ticker) {
         return "price:" + ticker.toUpperCase();
     }
 
+    private String lastKnownKeyForTicker(String ticker) {
+        return "price:lkg:" + ticker.toUpperCase();
+    }
+
+    // 마지막 정상 가격 저장 형식: "가격|조회시각(epoch millis)"
+    private static String encodeLastKnown(double price, long updatedAt) {
+        return Double.toString(price) + "|" + updatedAt;
+    }
+
+    // 형식이 잘못된 값은 기록 없음(null)으로 처리
+    private static PriceSnapshot decodeLastKnown(String val) {
+        int sep = val.indexOf('|');
+        if (sep <= 0) return null;
+        try {
+            double price = Double.parseDouble(val.substring(0, sep));
+            long updatedAt = Long.parseLong(val.substring(sep + 1));
+            return new PriceSnapshot(price, updatedAt);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public Optional<Double> getCachedPrice(String ticker) {
+        // 1) 로컬 캐시 조회 (네트워크 왕복 없음)
+        String key = keyForTicker(ticker);
+        Double near = nearPrice(key);
+        if (near != null) {
+            return Optional.of(near);
+        }
+
+        // 2) Redis 조회 (값 + 남은 TTL, 파이프라인 1회)
         try {
-            String val = redisTemplate.opsForValue().get(keyForTicker(ticker));
-            if (val == null) return Optional.empty();
+            List<Object> replies = getWithRemainingTtl(List.of(key));
+            if (replies.size() < 2 || !(replies.get(0) instanceof String val)) return Optional.empty();
             try {
-                return Optional.of(Double.parseDouble(val));
+                double price = Double.parseDouble(val);
+                nearCache.put(key, new NearEntry(price, 0L), nearCacheTtlMillisForRemaining(replies.get(1)));
+                return Optional.of(price);
             } catch (NumberFormatException e) {
                 return Optional.empty();
             }
@@ -31,13 +100,255 @@ public class MarketPriceCacheService {
         }
     }
 
+    /**
+     * 단일 티커 캐시 가격 + 조회 시각
+     * - 로컬 캐시 적중: 항목에 함께 저장한 조회 시각 (Redis 왕복 없음)
+     * - Redis 조회: GET + PTTL + 마지막 정상 가격(조회 시각)을 파이프라인 1회로 조회
+     */
+    public Optional<PriceSnapshot> getCachedPriceSnapshot(String ticker) {
+        String key = keyForTicker(ticker);
+        NearEntry near = nearCache.get(key);
+        // 조회 시각을 모르는 항목(일괄 조회로 채운 항목)은 Redis에서 다시 읽어 시각을 채움
+        if (near != null && near.observedAt() > 0) {
+            return Optional.of(new PriceSnapshot(near.price(), near.observedAt()));
+        }
+
+        try {
+            String lastKnownKey = lastKnownKeyForTicker(ticker);
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+                connection.stringCommands().get(lastKnownKey.getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+            if (replies == null || replies.size() < 3 || !(replies.get(0) instanceof String val)) {
+                return Optional.empty();
+            }
+            double price = Double.parseDouble(val);
+            PriceSnapshot lastKnown = replies.get(2) instanceof String raw ? decodeLastKnown(raw) : null;
+            // 마지막 정상 가격 기록이 없으면(Redis 장애 중 저장 등) 캐시 TTL 내 가격이므로 현재 시각으로 표시
+            long observedAt = lastKnown != null ? lastKnown.getUpdatedAt() : System.currentTimeMillis();
+            nearCache.put(key, new NearEntry(price, observedAt), nearCacheTtlMillisForRemaining(replies.get(1)));
+            return Optional.of(new PriceSnapshot(price, observedAt));
+        } catch (Exception e) {
+            // Redis 장애 또는 잘못된 값이면 캐시 미사용 (서비스 지속성 우선)
+            return Optional.empty();
+        }
+    }
+
     public void cachePrice(String ticker, double price, Duration ttl) {
+        String key = keyForTicker(ticker);
+        long now = System.currentTimeMillis();
+        nearCache.put(key, new NearEntry(price, now), nearCacheTtlMillis(ttl));
         try {
-            redisTemplate.opsForValue().set(keyForTicker(ticker), Double.toString(price), ttl);
+            redisTemplate.opsForValue().set(key, Double.toString(price), ttl);
+            redisTemplate.opsForValue().set(lastKnownKeyForTicker(ticker),
+                    encodeLastKnown(price, now), Duration.ofHours(lastKnownTtlHours));
         } catch (Exception ignored) {
             // Redis 장애 시 무시
         }
     }
-}
 
+    /**
+     * 여러 티커의 캐시 가격을 한 번에 조회 (로컬 캐시 → Redis MGET 1회)
+     * @return 캐시에 존재하는 티커만 포함한 Map (키는 요청한 티커 그대로)
+     */
+    public Map<String, Double> getCachedPrices(Collection<String> tickers) {
+        Map<String, Double> result = new HashMap<>();
+        if (tickers == null || tickers.isEmpty()) {
+            return result;
+        }
+
+        // 1) 로컬 캐시 조회
+        List<String> missingTickers = new ArrayList<>();
+        for (String ticker : tickers) {
+            Double near = nearPrice(keyForTicker(ticker));
+            if (near != null) {
+                result.put(ticker, near);
+            } else {
+                missingTickers.add(ticker);
+            }
+        }
+        if (missingTickers.isEmpty()) {
+            return result;
+        }
+
+        // 2) 로컬 캐시에 없는 티커만 Redis에서 한 번에 조회 (GET + PTTL 파이프라인, 왕복 1회)
+        try {
+            List<String> keys = new ArrayList<>(missingTickers.size());
+            for (String ticker : missingTickers) {
+                keys.add(keyForTicker(ticker));
+            }
+            List<Object> replies = getWithRemainingTtl(keys);
+            for (int i = 0; i < missingTickers.size() && 2 * i + 1 < replies.size(); i++) {
+                if (!(replies.get(2 * i) instanceof String val)) continue;
+                try {
+                    double price = Double.parseDouble(val);
+                    nearCache.put(keys.get(i), new NearEntry(price, 0L), nearCacheTtlMillisForRemaining(replies.get(2 * i + 1)));
+                    result.put(missingTickers.get(i), price);
+                } catch (NumberFormatException ignored) {
+                    // 잘못된 값은 캐시 미스로 처리
+                }
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 캐시 결과만 반환
+        }
+        return result;
+    }
 
+    /**
+     * 여러 티커의 가격을 한 번에 캐싱 (파이프라인 SETEX, Redis 왕복 1회)
+     * - 짧은 TTL 가격과 함께 마지막 정상 가격(조회 시각 포함)도 긴 TTL로 저장
+     */
+    public void cachePrices(Map<String, Double> prices, Duration ttl) {
+        if (prices == null || prices.isEmpty()) {
+            return;
+        }
+
+        long nearTtlMillis = nearCacheTtlMillis(ttl);
+        long now = System.currentTimeMillis();
+        Map<String, Double> validPrices = new LinkedHashMap<>();
+        Map<String, String> lastKnownValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : prices.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) continue;
+            String key = keyForTicker(entry.getKey());
+            nearCache.put(key, new NearEntry(entry.getValue(), now), nearTtlMillis);
+            validPrices.put(key, entry.getValue());
+            lastKnownValues.put(lastKnownKeyForTicker(entry.getKey()), encodeLastKnown(entry.getValue(), now));
+        }
+        if (validPrices.isEmpty()) {
+            return;
+        }
+
+        long ttlSeconds = Math.max(1L, ttl.getSeconds());
+        long lastKnownTtlSeconds = Math.max(ttlSeconds, Duration.ofHours(lastKnownTtlHours).getSeconds());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, Double> entry : validPrices.entrySet()) {
+                    connection.stringCommands().setEx(
+                            entry.getKey().getBytes(StandardCharsets.UTF_8),
+                            ttlSeconds,
+                            Double.toString(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+                }
+                for (Map.Entry<String, String> entry : lastKnownValues.entrySet()) {
+                    connection.stringCommands().setEx(
+                            entry.getKey().getBytes(StandardCharsets.UTF_8),
+                            lastKnownTtlSeconds,
+                            entry.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception ignored) {
+            // Redis 장애 시 무시
+        }
+    }
+
+    /**
+     * 로컬(JVM) 캐시에만 가격 저장 (다른 인스턴스가 조회해 Redis에 이미 저장한 가격)
+     * - 로컬 캐시 TTL에서 관측 후 경과 시간을 빼서, Redis 항목보다 오래 남지 않도록 함
+     */
+    public void warmNearCache(Map<String, Double> prices, long observedAt, Duration ttl) {
+        if (prices == null || prices.isEmpty()) {
+            return;
+        }
+        long age = Math.max(0L, System.currentTimeMillis() - observedAt);
+        long nearTtlMillis = nearCacheTtlMillis(ttl) - age;
+        for (Map.Entry<String, Double> entry : prices.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) continue;
+            nearCache.put(keyForTicker(entry.getKey()), new NearEntry(entry.getValue(), observedAt), nearTtlMillis);
+        }
+    }
+
+    /**
+     * 마지막 정상 가격 일괄 조회 (Redis MGET 1회)
+     * - 짧은 TTL 가격이 만료되었거나 시세 서비스가 응답하지 않을 때 대체값으로 사용
+     * @return 기록이 있는 티커만 포함한 Map (키는 요청한 티커 그대로)
+     */
+    public Map<String, PriceSnapshot> getLastKnownPrices(Collection<String> tickers) {
+        Map<String, PriceSnapshot> result = new HashMap<>();
+        if (tickers == null || tickers.isEmpty()) {
+            return result;
+        }
+
+        List<String> tickerList = new ArrayList<>(tickers);
+        List<String> keys = new ArrayList<>(tickerList.size());
+        for (String ticker : tickerList) {
+            keys.add(lastKnownKeyForTicker(ticker));
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < tickerList.size() && i < values.size(); i++) {
+                String val = values.get(i);
+                if (val == null) continue;
+                PriceSnapshot snapshot = decodeLastKnown(val);
+                if (snapshot != null) {
+                    result.put(tickerList.get(i), snapshot);
+                }
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 기록 없음으로 처리
+        }
+        return result;
+    }
+
+    /**
+     * 로컬 캐시 통계 (hit / miss / eviction)
+     */
+    public Map<String, Object> getNearCacheStats() {
+        return nearCache.stats();
+    }
+
+    // 로컬 캐시 TTL은 설정값과 Redis TTL 중 짧은 쪽을 사용
+    private long nearCacheTtlMillis(Duration redisTtl) {
+        long nearTtlMillis = nearCacheTtlSeconds * 1000L;
+        if (redisTtl != null) {
+            nearTtlMillis = Math.min(nearTtlMillis, redisTtl.toMillis());
+        }
+        return nearTtlMillis;
+    }
+
+    // Redis 값으로 로컬 캐시를 채울 때는 Redis 항목의 남은 TTL을 넘기지 않음
+    // (PTTL -1: 만료 없음 → 설정값, -2 또는 0 이하: 그 사이 만료됨 → 로컬 캐시에 넣지 않음)
+    private long nearCacheTtlMillisForRemaining(Object remainingTtlMillis) {
+        if (!(remainingTtlMillis instanceof Long remaining) || remaining == -1L) {
+            return nearCacheTtlMillis(null);
+        }
+        return remaining > 0 ? nearCacheTtlMillis(Duration.ofMillis(remaining)) : 0L;
+    }
+
+    /**
+     * 키별 GET + PTTL을 파이프라인으로 조회
+     * @return [값0, 남은TTL0(ms), 값1, 남은TTL1(ms), ...] (값은 없으면 null)
+     */
+    private List<Object> getWithRemainingTtl(List<String> keys) {
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+            }
+            return null;
+        });
+        return replies != null ? replies : List.of();
+    }
+
+    /**
+     * 가격 + 조회 시각(epoch millis) (마지막 정상 가격, 현재가 API 응답)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PriceSnapshot {
+        private final double price;
+        private final long updatedAt;
+    }
+
+    /**
+     * 로컬 캐시 항목: 가격 + 조회 시각 (모르면 0)
+     */
+    private record NearEntry(double price, long observedAt) {
+    }
+}
@@ -0,0 +1,351 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.client.CrawlerClient;
+import com.mystockfolio.backend.client.MarketDataClient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 시세 조회 공통 경로: 캐시 → 동일 티커 동시 조회 병합(single-flight) → 외부 시세 서비스
+ * - 같은 티커에 대한 동시 캐시 미스는 하나의 진행 중 조회를 공유하므로
+ *   장 시작 직후처럼 요청이 몰려도 외부 호출 수는 사용자 수가 아닌 티커 수에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketPriceService {
+
+    private final MarketPriceCacheService priceCacheService;
+    private final MarketDataClient marketDataClient;
+    private final CrawlerClient crawlerClient;
+    private final PriceTickBus priceTickBus;
+
+    // 가격 캐시 TTL
+    public static final Duration PRICE_TTL = Duration.ofSeconds(60);
+
+    // 시세 틱 출처: 이 인스턴스가 외부 서비스에서 직접 조회한 가격
+    public static final String TICK_SOURCE = "upstream";
+
+    // 한국 주식 판별: 6자리 숫자 티커
+    private static final Pattern KR_STOCK_PATTERN = Pattern.compile("^\\d{6}$");
+
+    // 일괄 시세 조회 묶음 크기 (market-data-svc / crawler-svc 요청당 최대 100개)
+    private static final int PRICE_BATCH_SIZE = 50;
+    // crawler-svc는 종목별 크롤링(요청 간 지연 포함)을 제한된 동시성으로 수행하므로 묶음을 작게 유지
+    // (두 서비스 모두 응답 기한 6초 내 조회된 티커만 반환 → 아래 묶음당 타임아웃 8초 안에 응답)
+    private static final int KR_PRICE_BATCH_SIZE = 10;
+
+    // 진행 중인 외부 조회 (대문자 티커 → 공유 결과)
+    private final Map<String, Mono<Optional<Double>>> inFlight = new ConcurrentHashMap<>();
+
+    // 최근 조회 요청 시각 (대문자 티커 → epoch millis) - 가격 선갱신 대상 선정용
+    private final Map<String, Long> recentRequests = new ConcurrentHashMap<>();
+
+    public boolean isKoreanStock(String ticker) {
+        return ticker != null && KR_STOCK_PATTERN.matcher(ticker).matches();
+    }
+
+    /**
+     * 단일 티커 현재가 조회 (조회 실패 시 empty)
+     */
+    public Mono<Double> getPrice(String ticker) {
+        return Mono.defer(() -> {
+            recordRequest(ticker);
+            Optional<Double> cached = priceCacheService.getCachedPrice(ticker);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+            return fetchShared(List.of(ticker))
+                    .flatMap(prices -> Mono.justOrEmpty(prices.get(ticker)));
+        });
+    }
+
+    /**
+     * 단일 티커 현재가 + 관측 시각 조회 (조회 실패 시 empty)
+     * - 캐시 적중: 캐시 항목과 함께 보관한 조회 시각 (로컬 캐시 적중 시 Redis 왕복 없음)
+     * - 외부 조회: 응답을 받은 시각
+     * - 외부 조회 실패: 마지막 정상 가격과 그 조회 시각 (이 경우에만 마지막 정상 가격 키 조회)
+     */
+    public Mono<MarketPriceCacheService.PriceSnapshot> getPriceSnapshot(String ticker) {
+        return Mono.defer(() -> {
+            recordRequest(ticker);
+            Optional<MarketPriceCacheService.PriceSnapshot> cached = priceCacheService.getCachedPriceSnapshot(ticker);
+            if (cached.isPresent()) {
+                return Mono.just(cached.get());
+            }
+            return fetchShared(List.of(ticker))
+                    .flatMap(prices -> Mono.justOrEmpty(prices.get(ticker)))
+                    .map(price -> new MarketPriceCacheService.PriceSnapshot(price, System.currentTimeMillis()))
+                    .switchIfEmpty(Mono.fromSupplier(() -> getLastKnownPrice(ticker)));
+        });
+    }
+
+    private MarketPriceCacheService.PriceSnapshot getLastKnownPrice(String ticker) {
+        return priceCacheService.getLastKnownPrices(List.of(ticker)).get(ticker);
+    }
+
+    /**
+     * 여러 티커 현재가 일괄 조회
+     * @return 조회에 성공한 티커만 포함한 Map (키는 요청한 티커 그대로)
+     */
+    public Mono<Map<String, Double>> getPrices(Collection<String> tickers) {
+        return Mono.defer(() -> {
+            Set<String> uniqueTickers = new LinkedHashSet<>(tickers);
+            uniqueTickers.forEach(this::recordRequest);
+            Map<String, Double> prices = new HashMap<>(priceCacheService.getCachedPrices(uniqueTickers));
+
+            List<String> uncachedTickers = new ArrayList<>();
+            for (String ticker : uniqueTickers) {
+                if (!prices.containsKey(ticker)) {
+                    uncachedTickers.add(ticker);
+                }
+            }
+            if (uncachedTickers.isEmpty()) {
+                return Mono.just(prices);
+            }
+
+            log.debug("외부 서비스에서 가격 조회 - 티커 개수: {}", uncachedTickers.size());
+            return fetchShared(uncachedTickers)
+                    .map(fetched -> {
+                        prices.putAll(fetched);
+                        return prices;
+                    });
+        });
+    }
+
+    /**
+     * 여러 티커 현재가 조회 (stale-while-revalidate)
+     * - 캐시에 있으면 최신 가격
+     * - 캐시가 만료되었지만 마지막 정상 가격이 있으면 그 값을 즉시 반환(stale)하고 비동기로 재조회
+     * - 기록이 전혀 없는 티커만 외부 서비스 응답을 기다림
+     * @return 가격을 구한 티커만 포함한 Map (키는 요청한 티커 그대로)
+     */
+    public Mono<Map<String, PriceQuote>> getQuotes(Collection<String> tickers) {
+        return Mono.defer(() -> {
+            Set<String> uniqueTickers = new LinkedHashSet<>(tickers);
+            uniqueTickers.forEach(this::recordRequest);
+
+            Map<String, PriceQuote> quotes = new HashMap<>();
+            Map<String, Double> cached = priceCacheService.getCachedPrices(uniqueTickers);
+            cached.forEach((ticker, price) -> quotes.put(ticker, new PriceQuote(price, false, null)));
+
+            List<String> uncachedTickers = new ArrayList<>();
+            for (String ticker : uniqueTickers) {
+                if (!quotes.containsKey(ticker)) {
+                    uncachedTickers.add(ticker);
+                }
+            }
+            if (uncachedTickers.isEmpty()) {
+                return Mono.just(quotes);
+            }
+
+            // 마지막 정상 가격이 있는 티커는 즉시 응답하고 백그라운드에서 재조회
+            Map<String, MarketPriceCacheService.PriceSnapshot> lastKnown =
+                    priceCacheService.getLastKnownPrices(uncachedTickers);
+            List<String> missingTickers = new ArrayList<>();
+            for (String ticker : uncachedTickers) {
+                MarketPriceCacheService.PriceSnapshot snapshot = lastKnown.get(ticker);
+                if (snapshot != null) {
+                    quotes.put(ticker, new PriceQuote(snapshot.getPrice(), true, toLocalDateTime(snapshot.getUpdatedAt())));
+                } else {
+                    missingTickers.add(ticker);
+                }
+            }
+            if (!lastKnown.isEmpty()) {
+                log.debug("만료된 가격 즉시 반환 후 재조회 - 티커 개수: {}", lastKnown.size());
+                revalidate(lastKnown.keySet());
+            }
+            if (missingTickers.isEmpty()) {
+                return Mono.just(quotes);
+            }
+
+            return fetchShared(missingTickers)
+                    .map(fetched -> {
+                        fetched.forEach((ticker, price) -> quotes.put(ticker, new PriceQuote(price, false, null)));
+                        return quotes;
+                    });
+        });
+    }
+
+    // 비동기 재조회 (동일 티커 진행 중 조회와 병합되므로 중복 호출 없음)
+    private void revalidate(Collection<String> tickers) {
+        refreshPrices(tickers).subscribe(
+                fetched -> log.debug("가격 재조회 완료 - 성공: {}/{}", fetched.size(), tickers.size()),
+                error -> log.warn("가격 재조회 실패: {}", error.getMessage()));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 캐시를 거치지 않고 외부 서비스에서 다시 조회해 캐시를 갱신 (가격 선갱신용)
+     * - 이미 진행 중인 조회가 있는 티커는 그 결과를 공유
+     */
+    public Mono<Map<String, Double>> refreshPrices(Collection<String> tickers) {
+        return Mono.defer(() -> fetchShared(new ArrayList<>(new LinkedHashSet<>(tickers))));
+    }
+
+    /**
+     * 최근 window 이내에 조회 요청된 티커 (오래된 기록은 정리)
+     */
+    public Set<String> getRecentlyRequestedTickers(Duration window) {
+        long threshold = System.currentTimeMillis() - window.toMillis();
+        recentRequests.values().removeIf(requestedAt -> requestedAt < threshold);
+        return new LinkedHashSet<>(recentRequests.keySet());
+    }
+
+    private void recordRequest(String ticker) {
+        if (ticker != null && !ticker.isBlank()) {
+            recentRequests.put(ticker.toUpperCase(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 캐시 미스 티커 조회 (single-flight)
+     * - 이미 진행 중인 조회가 있는 티커는 그 결과를 기다리고
+     * - 나머지 티커만 이 호출이 대표로 외부 서비스에 일괄 조회
+     */
+    private Mono<Map<String, Double>> fetchShared(List<String> tickers) {
+        Map<String, Mono<Optional<Double>>> waits = new LinkedHashMap<>();
+        Map<String, Sinks.One<Optional<Double>>> ownedSinks = new LinkedHashMap<>();
+
+        for (String ticker : tickers) {
+            String key = ticker.toUpperCase();
+            Sinks.One<Optional<Double>> sink = Sinks.one();
+            Mono<Optional<Double>> shared = sink.asMono();
+            Mono<Optional<Double>> existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                waits.put(ticker, existing);
+            } else {
+                waits.put(ticker, shared);
+                ownedSinks.put(ticker, sink);
+            }
+        }
+
+        if (!ownedSinks.isEmpty()) {
+            log.debug("가격 조회 병합 - 대표 조회 {}개, 대기 {}개", ownedSinks.size(), waits.size() - ownedSinks.size());
+            List<String> ownedTickers = new ArrayList<>(ownedSinks.keySet());
+            // 대표 조회는 호출자 구독 취소와 무관하게 끝까지 수행 (대기 중인 다른 요청에 결과 전달)
+            fetchFromUpstream(ownedTickers).subscribe(
+                    fetched -> completeOwned(ownedSinks, fetched),
+                    error -> completeOwned(ownedSinks, Map.of()));
+        }
+
+        return Flux.fromIterable(waits.entrySet())
+                .flatMap(entry -> entry.getValue()
+                        .map(price -> price.map(p -> Map.entry(entry.getKey(), p))))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new);
+    }
+
+    private void completeOwned(Map<String, Sinks.One<Optional<Double>>> ownedSinks, Map<String, Double> fetched) {
+        for (Map.Entry<String, Sinks.One<Optional<Double>>> entry : ownedSinks.entrySet()) {
+            String ticker = entry.getKey();
+            inFlight.remove(ticker.toUpperCase());
+            entry.getValue().tryEmitValue(Optional.ofNullable(fetched.get(ticker)));
+        }
+    }
+
+    /**
+     * 외부 시세 서비스 일괄 조회 + 캐싱 (항상 완료되며 실패 시 빈 Map)
+     */
+    private Mono<Map<String, Double>> fetchFromUpstream(List<String> tickers) {
+        List<String> krTickers = new ArrayList<>();
+        List<String> otherTickers = new ArrayList<>();
+        for (String ticker : tickers) {
+            if (isKoreanStock(ticker)) {
+                krTickers.add(ticker);
+            } else {
+                otherTickers.add(ticker);
+            }
+        }
+
+        List<Mono<Map<String, Double>>> priceMonos = new ArrayList<>();
+
+        // 한국 주식: crawler-svc 일괄 조회
+        for (List<String> chunk : chunk(krTickers, KR_PRICE_BATCH_SIZE)) {
+            priceMonos.add(crawlerClient.getKRStockQuotes(chunk)
+                    .timeout(Duration.ofSeconds(8))
+                    .onErrorResume(e -> {
+                        log.warn("한국 주식 가격 일괄 조회 실패 - {}개: {}", chunk.size(), e.getMessage());
+                        return Mono.empty();
+                    }));
+        }
+
+        // 해외 주식/코인: market-data-svc 일괄 조회
+        for (List<String> chunk : chunk(otherTickers, PRICE_BATCH_SIZE)) {
+            priceMonos.add(marketDataClient.getCurrentPrices(chunk)
+                    .timeout(Duration.ofSeconds(8))
+                    .onErrorResume(e -> {
+                        log.warn("해외 주식/코인 가격 일괄 조회 실패 - {}개: {}", chunk.size(), e.getMessage());
+                        return Mono.empty();
+                    }));
+        }
+
+        return Flux.merge(priceMonos)
+                .collectList()
+                .map(results -> {
+                    Map<String, Double> fetchedPrices = new HashMap<>();
+                    for (Map<String, Double> result : results) {
+                        fetchedPrices.putAll(result);
+                    }
+                    // 조회 결과를 한 번에 캐싱 (60초 TTL, 파이프라인 SETEX)
+                    priceCacheService.cachePrices(fetchedPrices, PRICE_TTL);
+                    // 평가 스냅샷 등 시세 틱 구독자에게 전달 (구독자별 버퍼로 넘기고 즉시 반환)
+                    priceTickBus.publish(fetchedPrices, TICK_SOURCE);
+                    log.debug("외부 서비스 가격 조회 완료 - 성공: {}/{}", fetchedPrices.size(), tickers.size());
+                    return fetchedPrices;
+                })
+                .timeout(Duration.ofSeconds(10))
+                .onErrorResume(e -> {
+                    log.error("가격 조회 중 오류 발생: {}", e.getMessage());
+                    return Mono.just(new HashMap<>());
+                });
+    }
+
+    // 리스트를 size 단위 묶음으로 분할
+    private static List<List<String>> chunk(List<String> tickers, int size) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < tickers.size(); i += size) {
+            chunks.add(tickers.subList(i, Math.min(i + size, tickers.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 가격 + 신선도 정보
+     * - stale: 캐시가 만료되어 마지막 정상 가격을 사용한 경우 true
+     * - updatedAt: stale 가격의 조회 시각 (최신 가격이면 null)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PriceQuote {
+        private final double price;
+        private final boolean stale;
+        private final LocalDateTime updatedAt;
+    }
+}
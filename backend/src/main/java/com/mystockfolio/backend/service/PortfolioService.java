@@ -1,5 +1,6 @@
 package com.mystockfolio.backend.service;
 
+import com.mystockfolio.backend.domain.entity.Asset;
 import com.mystockfolio.backend.domain.entity.Portfolio;
 import com.mystockfolio.backend.domain.entity.User;
 import com.mystockfolio.backend.dto.PortfolioDto;
@@ -12,10 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,7 +23,9 @@ public class PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
     private final UserRepository userRepository;
-    private final RewardService rewardService;
+    private final RewardOutboxService rewardOutboxService;
+    private final PortfolioValuationService valuationService;
+    private final TickerHolderIndex holderIndex;
 
     // 사용자의 모든 포트폴리오 목록 조회 (자산 포함)
     @Transactional(readOnly = true)
@@ -71,52 +71,10 @@ public class PortfolioService {
         portfolio.updateName(requestDto.getName()); // Entity 내부 메서드 사용
         // 변경 감지로 자동 업데이트됨
         
-        // 블록체인 리워드 민팅 (비동기, 실패해도 포트폴리오 수정은 성공)
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null && user.getWalletAddress() != null && !user.getWalletAddress().isEmpty()) {
-                List<Portfolio> allPortfolios = portfolioRepository.findByUserIdWithAssets(userId);
-                List<Map<String, Object>> portfolioAssets = convertToMapFormat(allPortfolios);
-                
-                rewardService.mintActivityReward(
-                    userId,
-                    user.getWalletAddress(),
-                    "portfolio_updated",
-                    portfolioAssets
-                ).subscribe(
-                        response -> log.info("포트폴리오 수정 리워드 민팅 완료: {} FOLIO", response.getAmount()),
-                        error -> log.warn("포트폴리오 수정 리워드 민팅 실패: {}", error.getMessage())
-                );
-            } else {
-                log.debug("지갑 주소가 등록되지 않은 사용자: userId={}", userId);
-            }
-        } catch (Exception e) {
-            log.error("리워드 민팅 중 오류 발생 (포트폴리오 수정은 성공): {}", e.getMessage());
-        }
-        
-        return PortfolioDto.PortfolioSimpleResponse.fromEntity(portfolio);
-    }
+        // 블록체인 리워드 민팅: 같은 트랜잭션에서 아웃박스에 기록만 하고 백그라운드에서 일괄 처리
+        rewardOutboxService.enqueue(userId, "portfolio_updated");
 
-    /**
-     * 포트폴리오 리스트를 RewardService용 Map 형식으로 변환
-     */
-    private List<Map<String, Object>> convertToMapFormat(List<Portfolio> portfolios) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        
-        for (Portfolio portfolio : portfolios) {
-            for (var asset : portfolio.getAssets()) {
-                Map<String, Object> assetData = new HashMap<>();
-                assetData.put("ticker", asset.getTicker());
-                assetData.put("assetType", asset.getAssetType().name());
-                assetData.put("name", asset.getName());
-                assetData.put("quantity", asset.getQuantity());
-                assetData.put("currentPrice", asset.getAvgBuyPrice()); // 간단히 매입가 사용
-                
-                result.add(assetData);
-            }
-        }
-        
-        return result;
+        return PortfolioDto.PortfolioSimpleResponse.fromEntity(portfolio);
     }
 
     // 포트폴리오 삭제
@@ -128,6 +86,12 @@ public class PortfolioService {
             throw new ForbiddenException("해당 포트폴리오를 삭제할 권한이 없습니다.");
         }
 
+        List<Long> assetIds = portfolio.getAssets().stream()
+                .map(Asset::getId)
+                .collect(Collectors.toList());
         portfolioRepository.delete(portfolio);
+        // 포함된 자산이 함께 삭제되므로 평가 스냅샷 폐기 + 보유자 인덱스에서 제거 (커밋 후)
+        valuationService.invalidate(userId);
+        holderIndex.onAssetsDeleted(userId, assetIds);
     }
 }
\ No newline at end of file
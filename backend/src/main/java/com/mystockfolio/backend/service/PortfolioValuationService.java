@@ -0,0 +1,618 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.Asset;
+import com.mystockfolio.backend.domain.entity.AssetType;
+import com.mystockfolio.backend.domain.entity.Portfolio;
+import com.mystockfolio.backend.dto.DashboardDto;
+import com.mystockfolio.backend.repository.PortfolioRepository;
+import com.mystockfolio.backend.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 포트폴리오 평가 스냅샷 (메모리 유지 + 증분 갱신)
+ * - 최초 조회 시 한 번만 DB 조회 + 가격 조회로 생성
+ * - 이후 자산 추가/수정/삭제는 커밋 후 변경분(delta)만 반영하고, 가격 변동은 해당 티커 보유분만 재평가
+ * - 대시보드 통계 조회는 재계산 없이 스냅샷을 그대로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioValuationService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final MarketPriceService marketPriceService;
+    private final MarketPriceCacheService priceCacheService;
+    private final Scheduler jdbcScheduler;
+    private final TickerHolderIndex holderIndex;
+    private final PriceTickBus priceTickBus;
+
+    // 이 시간 동안 조회되지 않은 사용자 스냅샷은 메모리에서 제거 (다음 조회 시 재생성)
+    @Value("${valuation.idle-evict-minutes:30}")
+    private long idleEvictMinutes;
+
+    // 실시간 스트림 갱신 묶음 간격: 이 시간 안의 변경은 한 번의 이벤트로 전송
+    @Value("${dashboard.stream.coalesce-ms:500}")
+    private long streamCoalesceMs;
+
+    // 시세 틱 구독 버퍼 (가득 차면 가장 오래된 틱부터 버림 - 같은 티커의 다음 틱이 다시 갱신)
+    @Value("${valuation.tick.buffer-size:10000}")
+    private int tickBufferSize;
+
+    // 시세 틱 묶음 처리: 최대 개수 / 최대 대기 시간
+    @Value("${valuation.tick.batch-size:500}")
+    private int tickBatchSize;
+
+    @Value("${valuation.tick.batch-window-ms:100}")
+    private long tickBatchWindowMs;
+
+    private final Map<Long, UserValuation> valuations = new ConcurrentHashMap<>();
+
+    // 실시간 스트림 구독 중인 사용자 → 변경된 assetId 신호
+    // (RESET_SIGNAL: 스냅샷 폐기 → 전체 스냅샷 재전송)
+    private static final long RESET_SIGNAL = -1L;
+    private final Map<Long, UserStream> streams = new ConcurrentHashMap<>();
+
+    // 진행 중인 스냅샷 생성 (동일 사용자 동시 요청은 하나의 생성 결과를 공유)
+    private final Map<Long, Mono<UserValuation>> inFlightBuilds = new ConcurrentHashMap<>();
+
+    // 생성 도중 자산이 변경된 사용자 (해당 생성 결과는 저장하지 않음)
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 대시보드 통계 (스냅샷이 있으면 즉시 반환)
+     */
+    public Mono<DashboardDto.PortfolioStatsResponse> getStats(Long userId) {
+        return getValuation(userId).map(UserValuation::toStatsResponse);
+    }
+
+    /**
+     * 원금/시장가치/수익률 요약 (성과 판정용, 부수효과 없음)
+     * - 스냅샷이 있으면 스냅샷 합계를 그대로 사용 (조회 시각 갱신 없음)
+     * - 없으면 호출 측이 이미 조회한 자산 + 캐시된 가격(로컬/Redis, 없으면 마지막 정상 가격)으로 계산
+     *   → DB 재조회, 외부 시세 조회, 스냅샷 저장, 리워드 기록 없음
+     * - 가격 기록이 전혀 없는 자산은 매입가로 평가 (수익 0%로 간주)
+     */
+    public ReturnSummary evaluateReturn(Long userId, List<Asset> assets) {
+        UserValuation valuation = valuations.get(userId);
+        if (valuation != null) {
+            return valuation.toReturnSummary();
+        }
+
+        Set<String> tickers = new LinkedHashSet<>();
+        for (Asset asset : assets) {
+            tickers.add(asset.getTicker().toUpperCase());
+        }
+        Map<String, Double> prices = priceCacheService.getCachedPrices(tickers);
+        if (prices.size() < tickers.size()) {
+            List<String> missing = new ArrayList<>();
+            for (String ticker : tickers) {
+                if (!prices.containsKey(ticker)) missing.add(ticker);
+            }
+            priceCacheService.getLastKnownPrices(missing).forEach((ticker, snapshot) -> prices.put(ticker, snapshot.getPrice()));
+        }
+
+        double costBasis = 0.0;
+        double marketValue = 0.0;
+        for (Asset asset : assets) {
+            Double price = prices.get(asset.getTicker().toUpperCase());
+            costBasis += asset.getQuantity() * asset.getAvgBuyPrice();
+            marketValue += asset.getQuantity() * (price != null ? price : asset.getAvgBuyPrice());
+        }
+        return new ReturnSummary(costBasis, marketValue);
+    }
+
+    private Mono<UserValuation> getValuation(Long userId) {
+        return Mono.defer(() -> {
+            UserValuation valuation = valuations.get(userId);
+            if (valuation != null) {
+                valuation.touch();
+                return Mono.just(valuation);
+            }
+            return inFlightBuilds.computeIfAbsent(userId, id -> build(id)
+                    .doFinally(signal -> inFlightBuilds.remove(id))
+                    .cache());
+        });
+    }
+
+    // 포트폴리오 + 자산(JOIN FETCH 1회) 조회 후 가격을 붙여 스냅샷 생성
+    private Mono<UserValuation> build(Long userId) {
+        return Mono.fromCallable(() -> {
+                    changedDuringBuild.remove(userId);
+                    return portfolioRepository.findByUserIdWithAssets(userId);
+                })
+                .subscribeOn(jdbcScheduler)
+                .flatMap(portfolios -> {
+                    List<Asset> assets = new ArrayList<>();
+                    for (Portfolio portfolio : portfolios) {
+                        assets.addAll(portfolio.getAssets());
+                    }
+                    Set<String> tickers = new LinkedHashSet<>();
+                    for (Asset asset : assets) {
+                        tickers.add(asset.getTicker());
+                    }
+                    return marketPriceService.getQuotes(tickers)
+                            .timeout(java.time.Duration.ofSeconds(10))
+                            .onErrorResume(e -> {
+                                log.error("평가 스냅샷 가격 조회 실패 - userId: {}, {}", userId, e.getMessage());
+                                return Mono.just(new HashMap<>());
+                            })
+                            .defaultIfEmpty(new HashMap<>())
+                            // 저장 후 캐시 가격 재조회(Redis 접근 가능)가 있으므로 블로킹 허용 스케줄러에서 처리
+                            .publishOn(jdbcScheduler)
+                            .map(quotes -> {
+                                UserValuation valuation = new UserValuation();
+                                for (Asset asset : assets) {
+                                    MarketPriceService.PriceQuote quote = quotes.get(asset.getTicker());
+                                    valuation.upsert(Position.of(asset, quote));
+                                }
+                                // 생성 도중 자산이 바뀌었으면 이번 결과는 응답에만 사용
+                                if (!changedDuringBuild.remove(userId)) {
+                                    valuations.put(userId, valuation);
+                                    // 가격 조회 ~ 저장 사이에 도착한 시세 틱은 스냅샷이 없어 버려졌으므로 캐시 가격을 다시 적용
+                                    // (가격은 캐시에 먼저 저장된 뒤 틱으로 발행되므로, 저장 이후의 틱은 onPriceTicks가 반영)
+                                    publishChanges(userId, valuation.applyPrices(priceCacheService.getCachedPrices(tickers)));
+                                }
+                                log.info("평가 스냅샷 생성 - userId: {}, 자산 {}개", userId, assets.size());
+                                return valuation;
+                            });
+                });
+    }
+
+    /**
+     * 자산 추가/수정 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void onAssetSaved(Long userId, Asset asset) {
+        Position position = Position.of(asset, null);
+        TransactionUtils.afterCommit(() -> {
+            UserValuation valuation = valuations.get(userId);
+            if (valuation == null) {
+                markChangedDuringBuild(userId);
+                return;
+            }
+            Optional<Double> cachedPrice = priceCacheService.getCachedPrice(position.ticker);
+            if (cachedPrice.isPresent()) {
+                position.updatePrice(cachedPrice.get(), false, null);
+            } else if (!valuation.copyPriceFromSameTicker(position)) {
+                // 가격을 모르는 신규 티커: 매입가로 두고 조회 완료 시 가격 변동으로 재평가
+                marketPriceService.getPrice(position.ticker).subscribe(
+                        price -> { },
+                        error -> log.warn("신규 자산 가격 조회 실패 - {}: {}", position.ticker, error.getMessage()));
+            }
+            valuation.upsert(position);
+            publishChanges(userId, Set.of(position.assetId));
+        });
+    }
+
+    /**
+     * 자산 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void onAssetDeleted(Long userId, Long assetId) {
+        TransactionUtils.afterCommit(() -> {
+            UserValuation valuation = valuations.get(userId);
+            if (valuation == null) {
+                markChangedDuringBuild(userId);
+                return;
+            }
+            valuation.remove(assetId);
+            publishChanges(userId, Set.of(assetId));
+        });
+    }
+
+    /**
+     * 포트폴리오/계정 삭제 등 대량 변경 시 스냅샷 폐기 (다음 조회 시 재생성)
+     */
+    public void invalidate(Long userId) {
+        TransactionUtils.afterCommit(() -> invalidateNow(userId));
+    }
+
+    /**
+     * 이미 커밋된 변경으로 스냅샷 폐기 (다른 인스턴스에서 전파된 자산 변경)
+     * - 다음 조회/스트림 재전송 시 DB에서 다시 생성
+     */
+    public void invalidateNow(Long userId) {
+        valuations.remove(userId);
+        markChangedDuringBuild(userId);
+        publishChanges(userId, Set.of(RESET_SIGNAL));
+    }
+
+    @PostConstruct
+    void subscribePriceTicks() {
+        priceTickBus.subscribe("valuation", tickBufferSize, BufferOverflowStrategy.DROP_OLDEST,
+                tickBatchSize, Duration.ofMillis(tickBatchWindowMs), this::onPriceTicks);
+    }
+
+    /**
+     * 가격 변동 반영: 해당 티커를 보유한 스냅샷의 포지션만 재평가
+     * - 묶음 안에서 같은 티커가 여러 번 오면 마지막 가격만 적용
+     */
+    void onPriceTicks(List<PriceTickBus.PriceTick> ticks) {
+        Map<String, Double> prices = new HashMap<>();
+        for (PriceTickBus.PriceTick tick : ticks) {
+            prices.put(tick.getTicker(), tick.getPrice());
+        }
+
+        if (!holderIndex.isReady()) {
+            // 인덱스 적재 전: 메모리에 있는 스냅샷 전체 재평가
+            for (Map.Entry<Long, UserValuation> entry : valuations.entrySet()) {
+                publishChanges(entry.getKey(), entry.getValue().applyPrices(prices));
+            }
+            return;
+        }
+
+        // 티커 보유자 인덱스로 영향받는 사용자만 재평가
+        for (Map.Entry<String, Double> entry : prices.entrySet()) {
+            Map<String, Double> tickerPrice = Map.of(entry.getKey(), entry.getValue());
+            for (long userId : holderIndex.holderUserIds(entry.getKey())) {
+                UserValuation valuation = valuations.get(userId);
+                if (valuation != null) {
+                    publishChanges(userId, valuation.applyPrices(tickerPrice));
+                }
+            }
+        }
+    }
+
+    /**
+     * 실시간 평가 스트림
+     * - 연결 직후 전체 스냅샷, 이후 가격/자산 변경 시 바뀐 자산만 전송
+     * - 짧은 간격(기본 500ms) 안의 변경은 하나로 합치고, 느린 클라이언트에는 최신 상태만 전달
+     */
+    public Flux<DashboardDto.ValuationUpdate> streamUpdates(Long userId) {
+        return Flux.defer(() -> {
+            // 스냅샷 조회/생성 전에 먼저 등록: 그 사이 발행된 변경도 이 구독자의 미전송 목록에 모임
+            StreamSubscriber subscriber = new StreamSubscriber();
+            UserStream stream = streams.compute(userId, (id, existing) -> {
+                UserStream target = existing != null ? existing : new UserStream();
+                target.subscribers.add(subscriber);
+                return target;
+            });
+            Set<Long> pending = subscriber.pending;
+
+            // 첫 신호(빈 집합): 초기 스냅샷 이전에 모인 변경을 다음 묶음 주기에 전송
+            Flux<DashboardDto.ValuationUpdate> deltas = Flux.concat(Mono.just(Set.<Long>of()), stream.changes.asFlux())
+                    .sample(Duration.ofMillis(streamCoalesceMs))
+                    .onBackpressureLatest()
+                    .map(signal -> {
+                        // 꺼낸 항목만 제거 (꺼내는 도중 다시 바뀐 자산은 다음 이벤트로 전송)
+                        Set<Long> changedIds = new LinkedHashSet<>();
+                        for (java.util.Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+                            changedIds.add(it.next());
+                            it.remove();
+                        }
+                        UserValuation valuation = valuations.get(userId);
+                        if (valuation == null) {
+                            // 스냅샷이 폐기된 상태: 클라이언트가 통계를 다시 조회
+                            return DashboardDto.ValuationUpdate.builder().type("reset").build();
+                        }
+                        valuation.touch();
+                        if (changedIds.contains(RESET_SIGNAL)) {
+                            return valuation.toUpdate("snapshot", null);
+                        }
+                        return valuation.toUpdate("delta", changedIds);
+                    })
+                    .filter(update -> !"delta".equals(update.getType())
+                            || !update.getChangedAssets().isEmpty()
+                            || !update.getRemovedAssetIds().isEmpty());
+
+            return getValuation(userId)
+                    .flatMapMany(initial -> Flux.concat(Mono.fromSupplier(() -> initial.toUpdate("snapshot", null)), deltas))
+                    .doFinally(signal -> streams.computeIfPresent(userId, (id, existing) -> {
+                        existing.subscribers.remove(subscriber);
+                        return existing.subscribers.isEmpty() ? null : existing;
+                    }));
+        });
+    }
+
+    // 변경 assetId는 구독자별 미전송 목록에 직접 기록하고, sink에는 전송 신호만 보냄
+    // (sink는 구독 전 신호를 버리므로 목록 기록을 sink 구독에 의존하지 않음)
+    private void publishChanges(Long userId, Set<Long> changedAssetIds) {
+        UserStream stream = streams.get(userId);
+        if (stream == null || changedAssetIds.isEmpty()) {
+            return;
+        }
+        for (StreamSubscriber subscriber : stream.subscribers) {
+            subscriber.pending.addAll(changedAssetIds);
+        }
+        stream.changes.emitNext(changedAssetIds, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(50)));
+    }
+
+    // 오래 조회되지 않은 스냅샷 정리
+    @Scheduled(fixedDelayString = "${valuation.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleEvictMinutes * 60_000L;
+        // 실시간 스트림 구독 중인 사용자는 유지
+        valuations.entrySet().removeIf(entry ->
+                entry.getValue().lastAccessAt < threshold && !streams.containsKey(entry.getKey()));
+    }
+
+    private void markChangedDuringBuild(Long userId) {
+        if (inFlightBuilds.containsKey(userId)) {
+            changedDuringBuild.add(userId);
+        }
+    }
+
+    /**
+     * 실시간 스트림 구독 상태 (사용자당 1개, 여러 탭/기기가 공유)
+     */
+    private static final class UserStream {
+        private final Sinks.Many<Set<Long>> changes = Sinks.many().multicast().directBestEffort();
+        private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * 스트림 구독자 1명의 미전송 변경 assetId (동일성 비교)
+     */
+    private static final class StreamSubscriber {
+        private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * 사용자 1명의 평가 집계 (합계/유형별 시장가치는 변경분만 더하고 빼서 유지)
+     */
+    private static final class UserValuation {
+
+        private final Map<Long, Position> positions = new LinkedHashMap<>();
+        private final Map<AssetType, Double> typeMarketValues = new EnumMap<>(AssetType.class);
+        private final Map<AssetType, Integer> typeCounts = new EnumMap<>(AssetType.class);
+        private double costBasis;
+        private double marketValue;
+        private DashboardDto.PortfolioStatsResponse cachedResponse;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        void touch() {
+            lastAccessAt = System.currentTimeMillis();
+        }
+
+        synchronized void upsert(Position position) {
+            Position previous = positions.put(position.assetId, position);
+            if (previous != null) {
+                subtract(previous);
+            }
+            add(position);
+            cachedResponse = null;
+        }
+
+        synchronized void remove(Long assetId) {
+            Position previous = positions.remove(assetId);
+            if (previous != null) {
+                subtract(previous);
+                cachedResponse = null;
+            }
+        }
+
+        // 같은 티커를 이미 보유 중이면 그 가격을 사용
+        synchronized boolean copyPriceFromSameTicker(Position target) {
+            for (Position position : positions.values()) {
+                if (position.ticker.equals(target.ticker) && !position.assetId.equals(target.assetId)) {
+                    target.updatePrice(position.price, position.stale, position.priceUpdatedAt);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 가격이 바뀐 포지션의 assetId 반환
+        synchronized Set<Long> applyPrices(Map<String, Double> prices) {
+            Set<Long> changed = new LinkedHashSet<>();
+            for (Position position : positions.values()) {
+                Double price = prices.get(position.ticker);
+                if (price == null || (price == position.price && !position.stale)) {
+                    continue;
+                }
+                subtract(position);
+                position.updatePrice(price, false, null);
+                add(position);
+                changed.add(position.assetId);
+            }
+            if (!changed.isEmpty()) {
+                cachedResponse = null;
+            }
+            return changed;
+        }
+
+        private void add(Position position) {
+            costBasis += position.costBasis();
+            marketValue += position.marketValue();
+            typeMarketValues.merge(position.assetType, position.marketValue(), Double::sum);
+            typeCounts.merge(position.assetType, 1, Integer::sum);
+        }
+
+        private void subtract(Position position) {
+            costBasis -= position.costBasis();
+            marketValue -= position.marketValue();
+            typeMarketValues.merge(position.assetType, -position.marketValue(), Double::sum);
+            // 해당 유형의 마지막 자산이면 배분 항목에서 제거
+            if (typeCounts.merge(position.assetType, -1, Integer::sum) <= 0) {
+                typeCounts.remove(position.assetType);
+                typeMarketValues.remove(position.assetType);
+            }
+        }
+
+        synchronized DashboardDto.PortfolioStatsResponse toStatsResponse() {
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+
+            double totalGainLoss = marketValue - costBasis;
+            List<DashboardDto.AssetReturn> assetReturns = new ArrayList<>();
+            for (Position position : positions.values()) {
+                assetReturns.add(position.toAssetReturn());
+            }
+
+            cachedResponse = DashboardDto.PortfolioStatsResponse.builder()
+                    .totalMarketValue(marketValue)
+                    .totalInitialInvestment(costBasis)
+                    .totalGainLoss(totalGainLoss)
+                    .totalReturnRate(totalReturnRate())
+                    .assetAllocations(assetAllocations())
+                    .assetReturns(assetReturns)
+                    .build();
+            return cachedResponse;
+        }
+
+        /**
+         * 스트림 이벤트 생성 (changedAssetIds가 null이면 전체 자산)
+         */
+        synchronized DashboardDto.ValuationUpdate toUpdate(String type, Set<Long> changedAssetIds) {
+            List<DashboardDto.AssetReturn> changedAssets = new ArrayList<>();
+            List<Long> removedAssetIds = new ArrayList<>();
+            if (changedAssetIds == null) {
+                for (Position position : positions.values()) {
+                    changedAssets.add(position.toAssetReturn());
+                }
+            } else {
+                for (Long assetId : changedAssetIds) {
+                    Position position = positions.get(assetId);
+                    if (position != null) {
+                        changedAssets.add(position.toAssetReturn());
+                    } else {
+                        removedAssetIds.add(assetId);
+                    }
+                }
+            }
+
+            return DashboardDto.ValuationUpdate.builder()
+                    .type(type)
+                    .totalMarketValue(marketValue)
+                    .totalInitialInvestment(costBasis)
+                    .totalGainLoss(marketValue - costBasis)
+                    .totalReturnRate(totalReturnRate())
+                    .assetAllocations(assetAllocations())
+                    .changedAssets(changedAssets)
+                    .removedAssetIds(removedAssetIds)
+                    .build();
+        }
+
+        private double totalReturnRate() {
+            return (costBasis > 0) ? ((marketValue - costBasis) / costBasis) * 100.0 : 0.0;
+        }
+
+        synchronized ReturnSummary toReturnSummary() {
+            return new ReturnSummary(costBasis, marketValue);
+        }
+
+        // 자산 배분 리스트 (Pie Chart용)
+        private List<DashboardDto.AssetAllocation> assetAllocations() {
+            List<DashboardDto.AssetAllocation> assetAllocations = new ArrayList<>();
+            for (Map.Entry<AssetType, Double> entry : typeMarketValues.entrySet()) {
+                double percentage = (marketValue > 0) ? (entry.getValue() / marketValue) * 100.0 : 0.0;
+                assetAllocations.add(DashboardDto.AssetAllocation.builder()
+                        .assetType(entry.getKey().name())
+                        .value(entry.getValue())
+                        .percentage(percentage)
+                        .build());
+            }
+            return assetAllocations;
+        }
+    }
+
+    /**
+     * 원금/시장가치 합계와 수익률
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ReturnSummary {
+        private final double costBasis;
+        private final double marketValue;
+
+        public double getGainLoss() {
+            return marketValue - costBasis;
+        }
+
+        public double getReturnRate() {
+            return (costBasis > 0) ? ((marketValue - costBasis) / costBasis) * 100.0 : 0.0;
+        }
+    }
+
+    /**
+     * 보유 자산 1건 + 현재가
+     */
+    private static final class Position {
+        private final Long assetId;
+        private final String ticker;
+        private final AssetType assetType;
+        private final String name;
+        private final double quantity;
+        private final double avgBuyPrice;
+        private double price;
+        private boolean stale;
+        private LocalDateTime priceUpdatedAt;
+
+        private Position(Asset asset) {
+            this.assetId = asset.getId();
+            this.ticker = asset.getTicker().toUpperCase();
+            this.assetType = asset.getAssetType();
+            this.name = asset.getName();
+            this.quantity = asset.getQuantity();
+            this.avgBuyPrice = asset.getAvgBuyPrice();
+        }
+
+        // 가격 정보가 없으면 매입가 사용 (stale로 표시)
+        static Position of(Asset asset, MarketPriceService.PriceQuote quote) {
+            Position position = new Position(asset);
+            if (quote != null) {
+                position.updatePrice(quote.getPrice(), quote.isStale(), quote.getUpdatedAt());
+            } else {
+                position.updatePrice(position.avgBuyPrice, true, null);
+            }
+            return position;
+        }
+
+        void updatePrice(double price, boolean stale, LocalDateTime priceUpdatedAt) {
+            this.price = price;
+            this.stale = stale;
+            this.priceUpdatedAt = priceUpdatedAt;
+        }
+
+        double costBasis() {
+            return quantity * avgBuyPrice;
+        }
+
+        DashboardDto.AssetReturn toAssetReturn() {
+            double investmentValue = costBasis();
+            double currentValue = marketValue();
+            double gainLoss = currentValue - investmentValue;
+            double returnRate = (investmentValue > 0) ? (gainLoss / investmentValue) * 100.0 : 0.0;
+            return DashboardDto.AssetReturn.builder()
+                    .assetId(assetId)
+                    .ticker(ticker)
+                    .name(name)
+                    .initialInvestment(investmentValue)
+                    .currentValue(currentValue)
+                    .gainLoss(gainLoss)
+                    .returnRate(returnRate)
+                    .assetType(assetType.name())
+                    .stale(stale)
+                    .priceUpdatedAt(priceUpdatedAt)
+                    .build();
+        }
+
+        double marketValue() {
+            return quantity * price;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.repository.AssetRepository;
+import com.mystockfolio.backend.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가격 선갱신(refresh-ahead) 스케줄러
+ * - 보유 자산 / 관심 종목 / 최근 조회된 티커를 캐시 만료(60초) 전에 다시 조회해 캐시를 채워둠
+ * - 인기 종목은 대시보드 요청이 외부 시세 서비스 응답을 기다리지 않음
+ * - 보유/관심 종목(DB 전체 DISTINCT 조회)은 Redis 잠금을 얻은 인스턴스 하나만 주기당 1회 갱신,
+ *   최근 조회 티커는 인스턴스별 메모리 기록이므로 각 인스턴스가 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceRefreshScheduler {
+
+    private static final String LOCK_KEY = "price:refresh:lock";
+
+    private final MarketPriceService marketPriceService;
+    private final AssetRepository assetRepository;
+    private final WatchlistRepository watchlistRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${price.refresh.enabled:true}")
+    private boolean enabled;
+
+    // 한 번에 갱신 요청할 티커 묶음 크기
+    @Value("${price.refresh.batch-size:50}")
+    private int batchSize;
+
+    // 동시에 진행할 묶음 수 상한
+    @Value("${price.refresh.concurrency:4}")
+    private int concurrency;
+
+    // 이 시간 안에 조회된 티커만 "최근 조회"로 간주
+    @Value("${price.refresh.recent-window-seconds:600}")
+    private long recentWindowSeconds;
+
+    // 보유/관심 종목 갱신 잠금 유지 시간: 갱신 주기보다 짧게 두고 해제하지 않음 (주기당 인스턴스 하나만 실행)
+    @Value("${price.refresh.lock-ttl-ms:40000}")
+    private long lockTtlMs;
+
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    // 갱신 주기: 캐시 TTL(60초)보다 짧게 유지해야 만료 전에 갱신됨
+    @Scheduled(initialDelayString = "${price.refresh.initial-delay-ms:15000}",
+            fixedDelayString = "${price.refresh.interval-ms:45000}")
+    public void refreshHotTickers() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> tickers = collectHotTickers();
+        if (tickers.isEmpty()) {
+            return;
+        }
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < tickers.size(); i += batchSize) {
+            batches.add(tickers.subList(i, Math.min(i + batchSize, tickers.size())));
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Integer refreshed = Flux.fromIterable(batches)
+                    .flatMap(marketPriceService::refreshPrices, Math.max(1, concurrency))
+                    .map(Map::size)
+                    .reduce(0, Integer::sum)
+                    .block(Duration.ofSeconds(40));
+            log.info("가격 선갱신 완료 - 성공: {}/{}, 소요: {}ms",
+                    refreshed, tickers.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("가격 선갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 보유 자산 + 관심 종목(잠금을 얻은 경우) + 최근 조회 티커 (대소문자 무시 중복 제거)
+    private List<String> collectHotTickers() {
+        Map<String, String> tickers = new LinkedHashMap<>();
+        if (acquireLock()) {
+            try {
+                for (String ticker : assetRepository.findDistinctTickers()) {
+                    addTicker(tickers, ticker);
+                }
+                for (String ticker : watchlistRepository.findDistinctTickers()) {
+                    addTicker(tickers, ticker);
+                }
+            } catch (Exception e) {
+                log.warn("선갱신 대상 티커 조회 실패: {}", e.getMessage());
+            }
+        }
+        for (String ticker : marketPriceService.getRecentlyRequestedTickers(Duration.ofSeconds(recentWindowSeconds))) {
+            addTicker(tickers, ticker);
+        }
+        return new ArrayList<>(tickers.values());
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, lockOwner, Duration.ofMillis(lockTtlMs)));
+        } catch (Exception e) {
+            // 잠금을 확인할 수 없으면 이번 주기는 최근 조회 티커만 갱신 (Redis 장애 시 캐시 저장도 불가)
+            log.debug("가격 선갱신 잠금 실패, 보유/관심 종목은 건너뜁니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void addTicker(Map<String, String> tickers, String ticker) {
+        if (ticker != null && !ticker.isBlank()) {
+            tickers.putIfAbsent(ticker.toUpperCase(), ticker);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.mystockfolio.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 시세 틱 버스
+ * - 외부 시세 조회에 성공한 가격은 모두 이곳으로 발행되고, 구독자(평가 스냅샷 등)에게 전달
+ * - 구독자마다 별도 버퍼/스레드를 두어 느린 구독자가 발행자나 다른 구독자를 막지 않음
+ * - 버퍼가 가득 차면 구독자별 정책(DROP_OLDEST / DROP_LATEST)에 따라 틱을 버리고 개수를 기록
+ * - 발행자(WebClient 완료 스레드, Redis 수신 스레드)는 여럿이므로 발행은 락으로 직렬화
+ *   (싱크는 동시 발행을 허용하지 않음, 락 안에서는 구독자 버퍼에 넣기만 하므로 짧게 끝남)
+ *   → 발행 실패는 예외 대신 개수만 기록 (가격 조회 결과에는 영향 없음)
+ */
+@Slf4j
+@Component
+public class PriceTickBus {
+
+    // 구독자가 없거나 요청이 없는 구독자에게는 전달하지 않음 (발행자는 절대 대기하지 않음)
+    private final Sinks.Many<PriceTick> sink = Sinks.many().multicast().directBestEffort();
+
+    private final ReentrantLock emitLock = new ReentrantLock();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong emitFailed = new AtomicLong();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 가격 발행 (티커 → 가격)
+     */
+    public void publish(Map<String, Double> prices, String source) {
+        publish(prices, source, System.currentTimeMillis());
+    }
+
+    /**
+     * 가격 발행 (관측 시각 지정 - 다른 인스턴스에서 전달된 가격)
+     */
+    public void publish(Map<String, Double> prices, String source, long observedAt) {
+        if (prices == null || prices.isEmpty()) {
+            return;
+        }
+        emitLock.lock();
+        try {
+            for (Map.Entry<String, Double> entry : prices.entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) continue;
+                PriceTick tick = new PriceTick(entry.getKey().toUpperCase(), entry.getValue(), observedAt, source);
+                Sinks.EmitResult result = sink.tryEmitNext(tick);
+                // 구독자가 없으면 전달할 곳이 없을 뿐이므로 실패로 보지 않음
+                if (result.isSuccess() || result == Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                    published.incrementAndGet();
+                } else {
+                    emitFailed.incrementAndGet();
+                    log.debug("시세 틱 발행 실패 - ticker: {}, result: {}", tick.getTicker(), result);
+                }
+            }
+        } finally {
+            emitLock.unlock();
+        }
+    }
+
+    /**
+     * 구독 등록
+     * @param name 구독자 이름 (통계/스레드 이름)
+     * @param bufferSize 구독자 전용 버퍼 크기
+     * @param overflow 버퍼 초과 시 버릴 틱 (DROP_OLDEST: 오래된 것, DROP_LATEST: 새로 들어온 것)
+     * @param maxBatch / batchWindow 틱을 묶어서 전달할 최대 개수 / 최대 대기 시간
+     * @param handler 묶음 처리 (구독자 전용 스레드에서 순차 실행)
+     */
+    public Disposable subscribe(String name, int bufferSize, BufferOverflowStrategy overflow,
+                                int maxBatch, Duration batchWindow, Consumer<List<PriceTick>> handler) {
+        Scheduler scheduler = Schedulers.newSingle("tick-" + name, true);
+        Subscription subscription = new Subscription(name, bufferSize, overflow, scheduler);
+
+        Disposable disposable = sink.asFlux()
+                .onBackpressureBuffer(bufferSize, dropped -> subscription.dropped.incrementAndGet(), overflow)
+                .publishOn(scheduler)
+                .bufferTimeout(maxBatch, batchWindow, scheduler)
+                .subscribe(ticks -> {
+                    try {
+                        handler.accept(ticks);
+                        subscription.delivered.addAndGet(ticks.size());
+                    } catch (Exception e) {
+                        // 구독자 오류가 구독을 끊지 않도록 기록만 함
+                        subscription.failed.addAndGet(ticks.size());
+                        log.warn("시세 틱 처리 실패 - subscriber: {}, {}", name, e.getMessage());
+                    }
+                }, error -> log.error("시세 틱 구독 종료 - subscriber: {}, {}", name, error.getMessage()));
+
+        subscription.disposable = disposable;
+        subscriptions.put(name, subscription);
+        log.info("시세 틱 구독 등록 - subscriber: {}, buffer: {}, overflow: {}", name, bufferSize, overflow);
+        return () -> {
+            disposable.dispose();
+            scheduler.dispose();
+            subscriptions.remove(name);
+        };
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("published", published.get());
+        stats.put("emitFailed", emitFailed.get());
+        stats.put("subscribers", sink.currentSubscriberCount());
+        List<Map<String, Object>> subscriberStats = new ArrayList<>();
+        for (Subscription subscription : subscriptions.values()) {
+            subscriberStats.add(subscription.stats());
+        }
+        stats.put("subscriptions", subscriberStats);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitLock.lock();
+        try {
+            sink.tryEmitComplete();
+        } finally {
+            emitLock.unlock();
+        }
+        for (Subscription subscription : subscriptions.values()) {
+            if (subscription.disposable != null) {
+                subscription.disposable.dispose();
+            }
+            subscription.scheduler.dispose();
+        }
+        subscriptions.clear();
+    }
+
+    /**
+     * 시세 1건 (티커는 대문자)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PriceTick {
+        private final String ticker;
+        private final double price;
+        private final long observedAt;
+        private final String source;
+    }
+
+    private static final class Subscription {
+        private final String name;
+        private final int bufferSize;
+        private final BufferOverflowStrategy overflow;
+        private final Scheduler scheduler;
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile Disposable disposable;
+
+        Subscription(String name, int bufferSize, BufferOverflowStrategy overflow, Scheduler scheduler) {
+            this.name = name;
+            this.bufferSize = bufferSize;
+            this.overflow = overflow;
+            this.scheduler = scheduler;
+        }
+
+        Map<String, Object> stats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("name", name);
+            stats.put("bufferSize", bufferSize);
+            stats.put("overflow", overflow.name());
+            stats.put("delivered", delivered.get());
+            stats.put("dropped", dropped.get());
+            stats.put("failed", failed.get());
+            return stats;
+        }
+    }
+}
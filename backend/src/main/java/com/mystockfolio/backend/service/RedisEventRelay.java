@@ -0,0 +1,248 @@
+package com.mystockfolio.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 간 Redis pub/sub 전파
+ * - 가격 채널: 이 인스턴스가 외부 서비스에서 조회한 시세 틱을 발행하고, 다른 인스턴스의 시세는
+ *   로컬 캐시를 채운 뒤 시세 틱 버스로 다시 발행 (평가 스냅샷/실시간 스트림 갱신)
+ * - 무효화 채널: 커밋된 보유 자산 변경을 발행하고, 다른 인스턴스의 변경은 보유자 인덱스에 반영 +
+ *   해당 사용자 평가 스냅샷 폐기
+ * - 인증 채널: 사용자 정보 변경/계정 삭제 시 다른 인스턴스의 principal 캐시 폐기
+ * - 메시지에 발행 인스턴스 ID(origin)를 담아 자기 메시지는 무시, 전달받은 틱은 다시 발행하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisEventRelay {
+
+    // 다른 인스턴스에서 전달된 시세 틱 출처
+    public static final String TICK_SOURCE = "relay";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final PriceTickBus priceTickBus;
+    private final MarketPriceCacheService priceCacheService;
+    private final TickerHolderIndex holderIndex;
+    private final PortfolioValuationService valuationService;
+    private final CustomUserDetailsService userDetailsService;
+    private final AchievementThresholdIndex thresholdIndex;
+
+    @Value("${relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${relay.price-channel:price:updates}")
+    private String priceChannel;
+
+    @Value("${relay.invalidation-channel:cache:invalidations}")
+    private String invalidationChannel;
+
+    @Value("${relay.principal-channel:auth:principal-invalidations}")
+    private String principalChannel;
+
+    // 발행 묶음: 최대 개수 / 최대 대기 시간
+    @Value("${relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${relay.batch-window-ms:50}")
+    private long batchWindowMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLong publishedMessages = new AtomicLong();
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong publishFailures = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            log.info("Redis 인스턴스 간 전파 비활성화");
+            return;
+        }
+        listenerContainer.addMessageListener(this::onPriceMessage, new ChannelTopic(priceChannel));
+        listenerContainer.addMessageListener(this::onInvalidationMessage, new ChannelTopic(invalidationChannel));
+        listenerContainer.addMessageListener(this::onPrincipalMessage, new ChannelTopic(principalChannel));
+        priceTickBus.subscribe("relay", 10000, BufferOverflowStrategy.DROP_OLDEST,
+                batchSize, Duration.ofMillis(batchWindowMs), this::publishPriceTicks);
+        log.info("Redis 인스턴스 간 전파 시작 - nodeId: {}, channels: {}, {}, {}",
+                nodeId, priceChannel, invalidationChannel, principalChannel);
+    }
+
+    // 직접 조회한 틱만 전파 (전달받은 틱을 다시 보내면 인스턴스 간에 무한 반복)
+    private void publishPriceTicks(List<PriceTickBus.PriceTick> ticks) {
+        Map<String, Double> prices = new HashMap<>();
+        long observedAt = Long.MAX_VALUE;
+        for (PriceTickBus.PriceTick tick : ticks) {
+            if (!MarketPriceService.TICK_SOURCE.equals(tick.getSource())) continue;
+            prices.put(tick.getTicker(), tick.getPrice());
+            observedAt = Math.min(observedAt, tick.getObservedAt());
+        }
+        if (prices.isEmpty()) {
+            return;
+        }
+        send(priceChannel, PriceMessage.builder()
+                .origin(nodeId)
+                .observedAt(observedAt)
+                .prices(prices)
+                .build());
+    }
+
+    /**
+     * 커밋된 보유 변경 전파
+     */
+    @EventListener
+    public void onHoldingsChanged(TickerHolderIndex.HoldingsChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        send(invalidationChannel, HoldingsMessage.builder()
+                .origin(nodeId)
+                .userId(event.getUserId())
+                .assetId(event.getAssetId())
+                .ticker(event.getTicker())
+                .quantity(event.getQuantity())
+                .avgBuyPrice(event.getAvgBuyPrice())
+                .deletedAssetIds(event.getDeletedAssetIds())
+                .build());
+    }
+
+    /**
+     * 커밋된 사용자 정보 변경/삭제 전파
+     */
+    @EventListener
+    public void onPrincipalInvalidated(CustomUserDetailsService.PrincipalInvalidatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        send(principalChannel, PrincipalMessage.builder()
+                .origin(nodeId)
+                .subjects(event.getSubjects())
+                .build());
+    }
+
+    private void onPriceMessage(Message message, byte[] pattern) {
+        PriceMessage priceMessage = read(message, PriceMessage.class);
+        if (priceMessage == null || nodeId.equals(priceMessage.getOrigin()) || priceMessage.getPrices() == null) {
+            return;
+        }
+        receivedMessages.incrementAndGet();
+        // Redis에는 발행 인스턴스가 이미 저장했으므로 로컬 캐시만 채움
+        priceCacheService.warmNearCache(priceMessage.getPrices(), priceMessage.getObservedAt(), MarketPriceService.PRICE_TTL);
+        priceTickBus.publish(priceMessage.getPrices(), TICK_SOURCE, priceMessage.getObservedAt());
+    }
+
+    private void onInvalidationMessage(Message message, byte[] pattern) {
+        HoldingsMessage holdingsMessage = read(message, HoldingsMessage.class);
+        if (holdingsMessage == null || nodeId.equals(holdingsMessage.getOrigin()) || holdingsMessage.getUserId() == null) {
+            return;
+        }
+        receivedMessages.incrementAndGet();
+        if (holdingsMessage.getAssetId() != null) {
+            holderIndex.applySaved(holdingsMessage.getUserId(), holdingsMessage.getAssetId(), holdingsMessage.getTicker(),
+                    holdingsMessage.getQuantity(), holdingsMessage.getAvgBuyPrice());
+        } else if (holdingsMessage.getDeletedAssetIds() != null) {
+            holderIndex.applyDeleted(holdingsMessage.getDeletedAssetIds());
+        }
+        // 이 인스턴스의 스냅샷은 변경 전 상태이므로 폐기 (다음 조회 시 DB에서 재생성)
+        valuationService.invalidateNow(holdingsMessage.getUserId());
+        // 성과 기준 추적도 변경 전 보유 기준이므로 중단 (변경한 인스턴스에서 다시 추적)
+        thresholdIndex.untrack(holdingsMessage.getUserId());
+    }
+
+    private void onPrincipalMessage(Message message, byte[] pattern) {
+        PrincipalMessage principalMessage = read(message, PrincipalMessage.class);
+        if (principalMessage == null || nodeId.equals(principalMessage.getOrigin()) || principalMessage.getSubjects() == null) {
+            return;
+        }
+        receivedMessages.incrementAndGet();
+        userDetailsService.evictLocal(principalMessage.getSubjects());
+    }
+
+    private void send(String channel, Object payload) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(payload));
+            publishedMessages.incrementAndGet();
+        } catch (Exception e) {
+            // Redis 장애 시 다른 인스턴스는 가격 TTL/스냅샷 재생성으로 따라잡음
+            publishFailures.incrementAndGet();
+            log.warn("Redis 전파 실패 - channel: {}, {}", channel, e.getMessage());
+        }
+    }
+
+    private <T> T read(Message message, Class<T> type) {
+        try {
+            return objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), type);
+        } catch (Exception e) {
+            log.warn("Redis 전파 메시지 해석 실패 - type: {}, {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("nodeId", nodeId);
+        stats.put("published", publishedMessages.get());
+        stats.put("received", receivedMessages.get());
+        stats.put("publishFailures", publishFailures.get());
+        return stats;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PriceMessage {
+        private String origin;
+        private long observedAt;
+        private Map<String, Double> prices;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HoldingsMessage {
+        private String origin;
+        private Long userId;
+        private Long assetId;
+        private String ticker;
+        private double quantity;
+        private double avgBuyPrice;
+        private List<Long> deletedAssetIds;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PrincipalMessage {
+        private String origin;
+        private List<String> subjects;
+    }
+}
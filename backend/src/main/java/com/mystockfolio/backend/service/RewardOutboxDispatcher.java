@@ -0,0 +1,223 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.RewardOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리워드 아웃박스 디스패처
+ * - 주기적으로 처리 시각이 된 행을 묶음 단위로 가져가 batch-mint 요청 1건으로 처리
+ * - 여러 인스턴스가 동시에 실행해도 SKIP LOCKED로 같은 행을 나눠 갖지 않음
+ * - 블록체인 호출 실패 시 묶음 전체를 지수 백오프로 재시도 예약 (재시도 행은 1건씩 민팅해 실패 원인 행을 격리)
+ * - 민팅 성공 즉시 트랜잭션 해시를 기록(MINTED)하고 이력을 저장: 저장 실패는 블록체인을 다시 호출하지 않고 저장만 재시도
+ *   (묶음 저장 실패 시 1건씩 나눠 저장, 계속 실패하는 행은 FAILED로 격리)
+ * - 민팅 성공 후 MINTED 기록 전에 종료되면 점유 만료 후 다시 처리됨 (최소 1회 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RewardOutboxDispatcher {
+
+    private final RewardOutboxService outboxService;
+    private final RewardService rewardService;
+
+    @Value("${reward.outbox.enabled:true}")
+    private boolean enabled;
+
+    // 한 번의 batch-mint 요청에 담을 최대 건수
+    @Value("${reward.outbox.batch-size:100}")
+    private int batchSize;
+
+    // 완료 행 보관 기간
+    @Value("${reward.outbox.retention-days:7}")
+    private long retentionDays;
+
+    private final AtomicLong dispatchedRows = new AtomicLong();
+    private final AtomicLong mintedRewards = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong persistFailures = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${reward.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        // 이전에 이력 저장이 실패한 민팅 결과부터 저장 (블록체인 호출 없음)
+        persistMinted();
+
+        while (true) {
+            List<RewardOutbox> rows;
+            try {
+                rows = outboxService.claimDue(batchSize);
+            } catch (Exception e) {
+                log.warn("리워드 아웃박스 조회 실패: {}", e.getMessage());
+                return;
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            // 처음 처리하는 행은 묶음 1건으로, 이미 실패한 적 있는 행은 1건씩 민팅
+            // (묶음을 실패시키는 행이 함께 묶인 다른 행까지 계속 재시도/포기로 끌고 가지 않도록)
+            List<RewardOutbox> firstAttempts = new ArrayList<>();
+            List<RewardOutbox> retries = new ArrayList<>();
+            for (RewardOutbox row : rows) {
+                if (row.getAttempts() > 1) {
+                    retries.add(row);
+                } else {
+                    firstAttempts.add(row);
+                }
+            }
+            List<List<RewardOutbox>> batches = new ArrayList<>();
+            if (!firstAttempts.isEmpty()) {
+                batches.add(firstAttempts);
+            }
+            for (RewardOutbox row : retries) {
+                batches.add(List.of(row));
+            }
+
+            for (int i = 0; i < batches.size(); i++) {
+                if (!mint(batches.get(i))) {
+                    // 블록체인 API 장애 중에는 남은 행을 시도하지 않고 다음 주기까지 대기
+                    releaseRemaining(batches.subList(i + 1, batches.size()));
+                    return;
+                }
+            }
+            if (rows.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 민팅 후 바로 MINTED 기록, 이어서 이력 저장 (블록체인 호출 실패 시 false)
+    private boolean mint(List<RewardOutbox> rows) {
+        List<Long> ids = rows.stream().map(RewardOutbox::getId).toList();
+        List<RewardService.MintedReward> minted;
+        try {
+            minted = rewardService.mintActivityRewards(outboxService.toIntents(rows));
+        } catch (Exception e) {
+            failedBatches.incrementAndGet();
+            log.warn("리워드 아웃박스 민팅 실패 ({}건): {}", ids.size(), e.getMessage());
+            try {
+                outboxService.markFailed(ids, e.getMessage());
+            } catch (Exception markError) {
+                // 표시 실패 시 점유 만료 후 다시 처리됨
+                log.error("리워드 아웃박스 재시도 예약 실패: {}", markError.getMessage());
+            }
+            return false;
+        }
+        mintedRewards.addAndGet(minted.size());
+
+        try {
+            outboxService.markMinted(ids, minted);
+        } catch (Exception e) {
+            // 점유 만료 후 다시 민팅될 수 있으므로 트랜잭션 해시를 남겨 대조
+            log.error("리워드 민팅 결과 기록 실패 ({}건, txHash: {}): {}", ids.size(),
+                    minted.isEmpty() ? null : minted.get(0).getTransactionHash(), e.getMessage());
+            return true;
+        }
+        dispatchedRows.addAndGet(ids.size() - minted.size());
+        persist(minted);
+        return true;
+    }
+
+    // 민팅 완료(MINTED) 행의 이력 저장 재시도
+    private void persistMinted() {
+        while (true) {
+            List<RewardOutbox> rows;
+            try {
+                rows = outboxService.claimMinted(batchSize);
+            } catch (Exception e) {
+                log.warn("리워드 아웃박스 민팅 완료 행 조회 실패: {}", e.getMessage());
+                return;
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            persist(outboxService.toMintedRewards(rows));
+            if (rows.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 이력 저장: 묶음 저장이 실패하면 1건씩 저장해 실패한 행만 재시도 예약 (최대 시도 초과 시 FAILED)
+    private void persist(List<RewardService.MintedReward> rewards) {
+        if (rewards.isEmpty()) {
+            return;
+        }
+        try {
+            outboxService.completeMinted(rewards);
+            dispatchedRows.addAndGet(rewards.size());
+            return;
+        } catch (Exception e) {
+            if (rewards.size() == 1) {
+                markPersistFailed(rewards.get(0), e);
+                return;
+            }
+            log.warn("리워드 이력 묶음 저장 실패 ({}건), 1건씩 다시 저장: {}", rewards.size(), e.getMessage());
+        }
+        for (RewardService.MintedReward reward : rewards) {
+            try {
+                outboxService.completeMinted(List.of(reward));
+                dispatchedRows.incrementAndGet();
+            } catch (Exception e) {
+                markPersistFailed(reward, e);
+            }
+        }
+    }
+
+    private void markPersistFailed(RewardService.MintedReward reward, Exception error) {
+        persistFailures.incrementAndGet();
+        log.warn("리워드 이력 저장 실패 - outboxId: {}, txHash: {}: {}",
+                reward.getOutboxId(), reward.getTransactionHash(), error.getMessage());
+        try {
+            outboxService.markFailed(List.of(reward.getOutboxId()), error.getMessage());
+        } catch (Exception markError) {
+            // 표시 실패 시 점유 만료 후 저장만 다시 시도됨
+            log.error("리워드 이력 저장 재시도 예약 실패: {}", markError.getMessage());
+        }
+    }
+
+    private void releaseRemaining(List<List<RewardOutbox>> batches) {
+        List<Long> ids = batches.stream().flatMap(List::stream).map(RewardOutbox::getId).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            outboxService.release(ids);
+        } catch (Exception e) {
+            // 되돌리지 못하면 점유 만료 후 다시 처리됨
+            log.warn("리워드 아웃박스 점유 해제 실패 ({}건): {}", ids.size(), e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${reward.outbox.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        int deleted = outboxService.purgeDone(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("리워드 아웃박스 완료 행 정리 - {}건", deleted);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("status", outboxService.getStatusCounts());
+        stats.put("dispatchedRows", dispatchedRows.get());
+        stats.put("mintedRewards", mintedRewards.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("persistFailures", persistFailures.get());
+        return stats;
+    }
+}
@@ -0,0 +1,241 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.RewardIntentType;
+import com.mystockfolio.backend.domain.entity.RewardOutbox;
+import com.mystockfolio.backend.domain.entity.RewardOutboxStatus;
+import com.mystockfolio.backend.repository.RewardOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 리워드 아웃박스 기록/상태 전이
+ * - 기록: 리워드를 발생시킨 변경과 같은 트랜잭션 (롤백되면 리워드 요청도 함께 사라짐)
+ * - 처리: RewardOutboxDispatcher가 SKIP LOCKED로 가져가 일괄 민팅 후 완료/재시도 표시
+ * - 상태: PENDING → (민팅) → MINTED → (이력 저장) → DONE, 재시도 초과 시 FAILED
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RewardOutboxService {
+
+    private final RewardOutboxRepository outboxRepository;
+    private final RewardService rewardService;
+    private final DailyRewardTracker dailyRewardTracker;
+    private final Scheduler jdbcScheduler;
+
+    // 재시도 간격: base * 2^(시도-1), 최대 max (±20% 지터)
+    @Value("${reward.outbox.backoff-base-seconds:5}")
+    private long backoffBaseSeconds;
+
+    @Value("${reward.outbox.backoff-max-seconds:600}")
+    private long backoffMaxSeconds;
+
+    @Value("${reward.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    // 디스패처 점유 시간: 처리 중 인스턴스가 종료되면 이 시간 이후 다른 디스패처가 다시 처리
+    @Value("${reward.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    // 오늘 이미 기록한 일일 리워드 (조회마다 INSERT 하지 않도록)
+    private final Set<String> dailyEnqueued = ConcurrentHashMap.newKeySet();
+    private volatile LocalDate dailyEnqueuedDate = LocalDate.now();
+
+    /**
+     * 리워드 요청 기록 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void enqueue(Long userId, String activityType) {
+        outboxRepository.save(activityReward(userId, activityType));
+    }
+
+    /**
+     * 일일 리워드 요청 기록 (조회 요청에서 사용, 응답을 기다리게 하지 않음)
+     * - 함께 커밋할 변경이 없으므로 jdbc 스케줄러에서 별도 트랜잭션으로 기록
+     * - 같은 날 같은 사용자/활동은 인스턴스당 1회만 확인하고, 오늘 이미 지급된 경우(Redis 비트맵) 기록하지 않음
+     * - MySQL 조회 없음 (비트맵이 비어 있는 경우의 최종 확인은 민팅 시 수행)
+     */
+    public void enqueueDaily(Long userId, String activityType) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(dailyEnqueuedDate)) {
+            dailyEnqueued.clear();
+            dailyEnqueuedDate = today;
+        }
+        String key = userId + ":" + activityType;
+        if (!dailyEnqueued.add(key)) {
+            return;
+        }
+        Mono.fromRunnable(() -> {
+                    if (!dailyRewardTracker.isMarkedToday(userId, activityType)) {
+                        // 내부 호출은 프록시를 거치지 않아 enqueue()의 @Transactional이 적용되지 않으므로
+                        // 저장소에 직접 저장 (단건 save는 SimpleJpaRepository의 자체 트랜잭션으로 커밋)
+                        outboxRepository.save(activityReward(userId, activityType));
+                    }
+                })
+                .subscribeOn(jdbcScheduler)
+                .subscribe(
+                        unused -> { },
+                        error -> {
+                            dailyEnqueued.remove(key);
+                            log.warn("일일 리워드 기록 실패 - userId: {}, activity: {}, {}", userId, activityType, error.getMessage());
+                        });
+    }
+
+    private static RewardOutbox activityReward(Long userId, String activityType) {
+        return RewardOutbox.builder()
+                .userId(userId)
+                .intentType(RewardIntentType.ACTIVITY_REWARD)
+                .activityType(activityType)
+                .build();
+    }
+
+    /**
+     * 처리 시각이 된 민팅 대기 행을 가져가고 점유 시간만큼 미룸 (커밋 후 잠금 해제)
+     */
+    @Transactional
+    public List<RewardOutbox> claimDue(int limit) {
+        return claim(RewardOutboxStatus.PENDING, limit);
+    }
+
+    /**
+     * 처리 시각이 된 이력 저장 대기 행(민팅 완료)을 가져가고 점유 시간만큼 미룸
+     */
+    @Transactional
+    public List<RewardOutbox> claimMinted(int limit) {
+        return claim(RewardOutboxStatus.MINTED, limit);
+    }
+
+    private List<RewardOutbox> claim(RewardOutboxStatus status, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RewardOutbox> rows = outboxRepository.lockDue(status.name(), now, limit);
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        for (RewardOutbox row : rows) {
+            row.claim(leaseUntil);
+        }
+        return rows;
+    }
+
+    @Transactional
+    public void markDone(Collection<Long> ids) {
+        outboxRepository.updateStatus(ids, RewardOutboxStatus.DONE, LocalDateTime.now());
+    }
+
+    /**
+     * 민팅 직후 결과 기록 (블록체인 호출이 성공하면 바로 호출)
+     * - 민팅된 행: MINTED + 트랜잭션 해시/지급 내역 (이후 재시도는 이력 저장만 수행)
+     * - 건너뛴 행(지갑 없음, 오늘 이미 지급 등): DONE
+     */
+    @Transactional
+    public void markMinted(Collection<Long> ids, List<RewardService.MintedReward> rewards) {
+        Map<Long, RewardService.MintedReward> rewardsById = new HashMap<>();
+        for (RewardService.MintedReward reward : rewards) {
+            rewardsById.put(reward.getOutboxId(), reward);
+        }
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds);
+        for (RewardOutbox row : outboxRepository.findAllById(ids)) {
+            RewardService.MintedReward reward = rewardsById.get(row.getId());
+            if (reward == null) {
+                row.markDone();
+            } else {
+                row.markMinted(reward.getTransactionHash(), reward.getWalletAddress(),
+                        reward.getAmount(), reward.getBalanceScore(), leaseUntil);
+            }
+        }
+    }
+
+    /**
+     * 민팅된 리워드의 이력 저장 + 완료 표시 (한 트랜잭션, 블록체인 호출 없음)
+     */
+    @Transactional
+    public void completeMinted(List<RewardService.MintedReward> rewards) {
+        rewardService.saveRewardHistories(rewards);
+        List<Long> ids = rewards.stream().map(RewardService.MintedReward::getOutboxId).toList();
+        outboxRepository.updateStatus(ids, RewardOutboxStatus.DONE, LocalDateTime.now());
+    }
+
+    /**
+     * 가져갔지만 처리하지 않은 행을 다음 주기에 다시 처리 (시도 횟수 복구)
+     */
+    @Transactional
+    public void release(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        for (RewardOutbox row : outboxRepository.findAllById(ids)) {
+            row.release(now);
+        }
+    }
+
+    /**
+     * 실패 처리: 시도 횟수에 따라 지수 백오프로 재시도 예약, 최대 횟수 초과 시 FAILED
+     * - 재시도는 현재 단계를 유지 (MINTED 행은 이력 저장만 다시 시도)
+     */
+    @Transactional
+    public void markFailed(Collection<Long> ids, String error) {
+        for (RewardOutbox row : outboxRepository.findAllById(ids)) {
+            if (row.getAttempts() >= maxAttempts) {
+                row.markFailed(error);
+                log.error("리워드 아웃박스 처리 포기 - id: {}, userId: {}, activity: {}, 단계: {}, 시도: {}회, txHash: {}",
+                        row.getId(), row.getUserId(), row.getActivityType(), row.getStatus(), row.getAttempts(),
+                        row.getTransactionHash());
+            } else {
+                row.markRetry(LocalDateTime.now().plusSeconds(backoffSeconds(row.getAttempts())), error);
+            }
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        long delay = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, backoffMaxSeconds);
+        // 같은 시각에 실패한 행이 한꺼번에 재시도하지 않도록 분산
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Math.max(1L, Math.round(delay * jitter));
+    }
+
+    @Transactional
+    public int purgeDone(LocalDateTime before) {
+        return outboxRepository.deleteProcessedBefore(RewardOutboxStatus.DONE, before);
+    }
+
+    /**
+     * 아웃박스 행을 민팅 요청으로 변환
+     */
+    public List<RewardService.RewardIntent> toIntents(List<RewardOutbox> rows) {
+        return rows.stream()
+                .map(row -> new RewardService.RewardIntent(row.getId(), row.getUserId(), row.getActivityType()))
+                .toList();
+    }
+
+    /**
+     * 민팅 완료 행을 이력 저장 요청으로 변환
+     */
+    public List<RewardService.MintedReward> toMintedRewards(List<RewardOutbox> rows) {
+        return rows.stream()
+                .map(row -> new RewardService.MintedReward(row.getId(), row.getUserId(), row.getWalletAddress(),
+                        row.getActivityType(), row.getAmount(), row.getBalanceScore(), row.getTransactionHash()))
+                .toList();
+    }
+
+    public Map<String, Object> getStatusCounts() {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (RewardOutboxStatus status : RewardOutboxStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        outboxRepository.countByStatus().forEach(row -> counts.put(row.getStatus().name(), row.getCount()));
+        return counts;
+    }
+}
@@ -6,17 +6,25 @@ import com.mystockfolio.backend.domain.entity.RewardHistory;
 import com.mystockfolio.backend.domain.entity.User;
 import com.mystockfolio.backend.dto.BlockchainDto;
 import com.mystockfolio.backend.repository.AchievementHistoryRepository;
+import com.mystockfolio.backend.repository.AssetRepository;
 import com.mystockfolio.backend.repository.RewardHistoryRepository;
 import com.mystockfolio.backend.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.LocalDate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,24 +35,30 @@ public class RewardService {
     private final RewardHistoryRepository rewardHistoryRepository;
     private final AchievementHistoryRepository achievementHistoryRepository;
     private final UserRepository userRepository;
+    private final AssetRepository assetRepository;
+    private final DailyRewardTracker dailyRewardTracker;
+    private final BlockchainHistoryService historyService;
+    private final HeldAchievementIndex heldAchievementIndex;
+    private final Scheduler jdbcScheduler;
+
+    // 일일 1회만 지급하는 활동
+    private static final Set<String> DAILY_LIMITED_ACTIVITIES = Set.of("dashboard_analysis");
+
+    // 일괄 민팅 응답 대기 상한 (블록 확정까지 기다림)
+    private static final Duration BATCH_MINT_TIMEOUT = Duration.ofSeconds(60);
 
     /**
      * 포트폴리오 균형 점수 계산
      * - assetType 다양성: 다양한 자산 유형(STOCK, COIN, ETF 등) 보유 시 높은 점수
      * - 섹터 분산도: 같은 섹터에 집중된 경우 낮은 점수
-     * @param portfolios 포트폴리오 자산 리스트
+     * @param uniqueAssetTypes 보유 자산 유형 수
      * @return 균형 점수 (0.0 ~ 1.0)
      */
-    public Double calculateDiversityScore(List<Map<String, Object>> portfolios) {
-        if (portfolios == null || portfolios.isEmpty()) {
+    public Double calculateDiversityScore(long uniqueAssetTypes) {
+        if (uniqueAssetTypes <= 0) {
             return 0.0;
         }
 
-        long uniqueAssetTypes = portfolios.stream()
-                .map(p -> p.get("assetType"))
-                .distinct()
-                .count();
-
         // AssetType 다양성 점수 (0.0 ~ 0.5)
         double assetTypeScore = Math.min(0.5, (double) uniqueAssetTypes / 5.0);
 
@@ -55,87 +69,137 @@ public class RewardService {
         return Math.min(1.0, assetTypeScore + sectorScore);
     }
 
+    public boolean isDailyLimited(String activityType) {
+        return DAILY_LIMITED_ACTIVITIES.contains(activityType);
+    }
+
     /**
-     * 활동 기반 토큰 리워드 민팅 (중복 체크 및 이력 저장 포함)
-     * @param userId 사용자 ID
-     * @param walletAddress 지갑 주소
-     * @param activity 활동 타입 (asset_added, portfolio_updated, dashboard_analysis 등)
-     * @param portfolios 포트폴리오 자산 리스트 (균형 점수 계산용)
-     * @return 민팅 결과
+     * 활동 기반 토큰 리워드 일괄 민팅 (중복 체크 포함, 이력 저장은 saveRewardHistories)
+     * - 사용자/자산 유형은 묶음당 1회씩 조회하고, 블록체인에는 batch-mint 요청 1건만 전송
+     * - 지갑이 없거나 오늘 이미 받은 일일 리워드는 건너뜀
+     * - 이력 저장과 분리: 호출 측이 민팅 결과를 먼저 기록해 두면, 이후 저장에 실패해도 다시 민팅하지 않음
+     * @param intents 지급 요청 (아웃박스 ID, userId, 활동 타입)
+     * @return 민팅된 건별 내역 (건너뛴 요청은 포함되지 않음)
+     * @throws RuntimeException 블록체인 호출 실패 시 (호출 측에서 재시도)
      */
-    public Mono<BlockchainDto.MintRewardResponse> mintActivityReward(
-            Long userId,
-            String walletAddress,
-            String activity,
-            List<Map<String, Object>> portfolios) {
+    public List<MintedReward> mintActivityRewards(List<RewardIntent> intents) {
+        if (intents == null || intents.isEmpty()) {
+            return List.of();
+        }
 
-        // 지갑 주소 유효성 검증
-        if (walletAddress == null || !walletAddress.startsWith("0x") || walletAddress.length() != 42) {
-            log.error("Invalid wallet address: {}", walletAddress);
-            return Mono.empty();
+        Set<Long> userIds = new HashSet<>();
+        for (RewardIntent intent : intents) {
+            userIds.add(intent.getUserId());
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getUserId(), user);
+        }
+        Map<Long, Long> assetTypeCounts = new HashMap<>();
+        for (AssetRepository.AssetTypeCountView row : assetRepository.countAssetTypesByUserIds(userIds)) {
+            assetTypeCounts.put(row.getUserId(), row.getAssetTypeCount());
         }
 
-        // 중복 체크 (일일 1회 제한: dashboard_analysis에만 적용)
-        if ("dashboard_analysis".equals(activity)) {
-            List<RewardHistory> existingRewards = rewardHistoryRepository
-                    .findByUserIdAndActivityTypeAndDate(userId, activity, LocalDate.now());
-            
-            if (!existingRewards.isEmpty()) {
-                log.info("User {} already received reward for {} today (count: {})", 
-                        userId, activity, existingRewards.size());
-                return Mono.empty();
+        // 일일 리워드: 활동별로 오늘 이미 받은 사용자를 한 번에 확인
+        Map<String, Set<Long>> rewardedToday = new HashMap<>();
+        Map<String, Set<Long>> dailyUserIds = new HashMap<>();
+        for (RewardIntent intent : intents) {
+            if (isDailyLimited(intent.getActivityType())) {
+                dailyUserIds.computeIfAbsent(intent.getActivityType(), k -> new HashSet<>()).add(intent.getUserId());
             }
         }
+        dailyUserIds.forEach((activity, ids) -> rewardedToday.put(activity, dailyRewardTracker.findRewardedToday(ids, activity)));
+
+        List<RewardIntent> rewardedIntents = new ArrayList<>();
+        List<Double> balanceScores = new ArrayList<>();
+        List<String> recipients = new ArrayList<>();
+        List<Double> amounts = new ArrayList<>();
+        List<String> activities = new ArrayList<>();
+        Set<String> dailyKeys = new HashSet<>();
+        for (RewardIntent intent : intents) {
+            User user = users.get(intent.getUserId());
+            if (user == null || !isValidWalletAddress(user.getWalletAddress())) {
+                log.debug("지갑 주소가 없는 사용자 리워드 건너뜀 - userId: {}", intent.getUserId());
+                continue;
+            }
+            String activity = intent.getActivityType();
+            if (isDailyLimited(activity)) {
+                // 같은 묶음 안의 중복 + 오늘 이미 지급된 경우 제외
+                if (!dailyKeys.add(intent.getUserId() + ":" + activity)
+                        || rewardedToday.get(activity).contains(intent.getUserId())) {
+                    continue;
+                }
+            }
 
-        // 포트폴리오 균형 점수 계산
-        double balanceScore = calculateDiversityScore(portfolios);
+            // 기본 보상 10 FOLIO, 균형 점수에 비례해 최대 20 FOLIO
+            double balanceScore = calculateDiversityScore(assetTypeCounts.getOrDefault(intent.getUserId(), 0L));
+            double rewardAmount = 10.0 * (1.0 + balanceScore);
 
-        // 기본 보상 계산 (균형 점수에 비례)
-        double baseReward = 10.0;
-        double rewardAmount = baseReward * (1.0 + balanceScore); // 10 ~ 20 FOLIO
+            recipients.add(user.getWalletAddress());
+            amounts.add(rewardAmount);
+            activities.add(activity);
+            rewardedIntents.add(intent);
+            balanceScores.add(balanceScore);
+        }
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
 
-        log.info("Minting reward - userId: {}, activity: {}, balanceScore: {}, amount: {}", 
-                userId, activity, balanceScore, rewardAmount);
+        log.info("Batch minting rewards - count: {}", recipients.size());
+        BlockchainDto.BatchMintRewardResponse response = blockchainClient
+                .batchMintReward(recipients, amounts, activities)
+                .block(BATCH_MINT_TIMEOUT);
+        if (response == null || !Boolean.TRUE.equals(response.getSuccess())) {
+            throw new IllegalStateException("Batch mint returned no successful response");
+        }
 
-        return blockchainClient.mintReward(walletAddress, rewardAmount, activity)
-                .doOnSuccess(response -> {
-                    log.info("Successfully minted {} FOLIO for activity: {}", rewardAmount, activity);
-                    // 리워드 이력 저장 (비동기)
-                    saveRewardHistory(userId, walletAddress, activity, rewardAmount, 
-                                    response.getTransactionHash(), balanceScore);
-                })
-                .doOnError(error -> {
-                    log.error("Failed to mint reward: {}", error.getMessage());
-                });
+        // 묶음 전체가 같은 트랜잭션 해시를 가짐
+        List<MintedReward> minted = new ArrayList<>();
+        for (int i = 0; i < rewardedIntents.size(); i++) {
+            RewardIntent intent = rewardedIntents.get(i);
+            minted.add(new MintedReward(intent.getOutboxId(), intent.getUserId(), recipients.get(i),
+                    activities.get(i), amounts.get(i), balanceScores.get(i), response.getTransactionHash()));
+        }
+        // 일일 리워드 지급 사실은 민팅 직후 기록 (이력 저장이 늦어져도 같은 날 다시 지급하지 않음)
+        markDailyRewards(minted);
+        log.info("Successfully batch minted {} rewards, txHash: {}", minted.size(), response.getTransactionHash());
+        return minted;
     }
 
     /**
-     * 리워드 이력 저장
+     * 민팅된 리워드 이력 일괄 저장 (블록체인 호출 없음)
      */
     @Transactional
-    public void saveRewardHistory(Long userId, String walletAddress, String activityType,
-                                  Double amount, String transactionHash, Double balanceScore) {
-        try {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                log.error("User not found: {}", userId);
-                return;
-            }
-
-            RewardHistory rewardHistory = RewardHistory.builder()
-                    .user(user)
-                    .walletAddress(walletAddress)
-                    .activityType(activityType)
-                    .amount(amount)
-                    .transactionHash(transactionHash)
-                    .balanceScore(balanceScore)
-                    .build();
+    public void saveRewardHistories(List<MintedReward> rewards) {
+        List<RewardHistory> histories = new ArrayList<>(rewards.size());
+        for (MintedReward reward : rewards) {
+            histories.add(RewardHistory.builder()
+                    .user(userRepository.getReferenceById(reward.getUserId()))
+                    .walletAddress(reward.getWalletAddress())
+                    .activityType(reward.getActivityType())
+                    .amount(reward.getAmount())
+                    .transactionHash(reward.getTransactionHash())
+                    .balanceScore(reward.getBalanceScore())
+                    .build());
+        }
+        rewardHistoryRepository.saveAll(histories);
+        historyService.onRewardsSaved(rewards.stream().map(MintedReward::getUserId).toList());
+    }
 
-            rewardHistoryRepository.save(rewardHistory);
-            log.info("Reward history saved: userId={}, activity={}, amount={}", userId, activityType, amount);
-        } catch (Exception e) {
-            log.error("Failed to save reward history: {}", e.getMessage(), e);
+    // 일일 리워드 지급 사실을 비트맵에 기록 (다음 대시보드 조회부터 요청 자체를 만들지 않음)
+    private void markDailyRewards(List<MintedReward> rewards) {
+        Map<String, List<Long>> userIdsByActivity = new HashMap<>();
+        for (MintedReward reward : rewards) {
+            if (isDailyLimited(reward.getActivityType())) {
+                userIdsByActivity.computeIfAbsent(reward.getActivityType(), k -> new ArrayList<>())
+                        .add(reward.getUserId());
+            }
         }
+        userIdsByActivity.forEach((activity, userIds) -> dailyRewardTracker.markRewardedToday(userIds, activity));
+    }
+
+    private static boolean isValidWalletAddress(String walletAddress) {
+        return walletAddress != null && walletAddress.startsWith("0x") && walletAddress.length() == 42;
     }
 
     /**
@@ -161,22 +225,24 @@ public class RewardService {
         log.info("NFT 발행 시도 - userId: {}, achievementType: {}, walletAddress: {}", 
                 userId, achievementType, walletAddress);
 
-        // 중복 체크 (같은 성과는 한 번만 발행)
-        List<AchievementHistory> existingAchievements = achievementHistoryRepository
-                .findByUserIdAndAchievementType(userId, achievementType);
-        if (existingAchievements != null && !existingAchievements.isEmpty()) {
-            log.info("사용자 {}는 이미 성과 {}를 보유하고 있습니다 (count: {}). NFT 발행을 건너뜁니다.", 
-                    userId, achievementType, existingAchievements.size());
+        // 중복 체크 (같은 성과는 한 번만 발행, 보유 비트셋 → 없으면 인덱스 exists 쿼리)
+        if (heldAchievementIndex.isHeld(userId, achievementType)) {
+            log.info("사용자 {}는 이미 성과 {}를 보유하고 있습니다. NFT 발행을 건너뜁니다.", userId, achievementType);
             return Mono.empty();
         }
 
         log.info("블록체인에 NFT 민팅 요청 - userId: {}, achievementType: {}", userId, achievementType);
 
+        // 이력 저장(JPA)은 WebClient 이벤트 루프가 아닌 JDBC 전용 스케줄러에서 수행
         return blockchainClient.mintAchievement(walletAddress, achievementType, metadata)
+                .publishOn(jdbcScheduler)
                 .doOnSuccess(response -> {
+                    if (response == null) {
+                        return;
+                    }
                     log.info("NFT 민팅 성공 - userId: {}, achievementType: {}, tokenId: {}, txHash: {}", 
                             userId, achievementType, response.getTokenId(), response.getTransactionHash());
-                    // 성과 히스토리 저장 (비동기)
+                    // 성과 히스토리 저장
                     saveAchievementHistory(userId, walletAddress, achievementType,
                                          response.getTokenId(), response.getTransactionHash(), metadata);
                 })
@@ -209,6 +275,8 @@ public class RewardService {
                     .build();
 
             achievementHistoryRepository.save(achievementHistory);
+            historyService.onAchievementSaved(userId);
+            heldAchievementIndex.markHeld(userId, achievementType);
             log.info("Achievement history saved: userId={}, achievementType={}, tokenId={}", 
                     userId, achievementType, tokenId);
         } catch (Exception e) {
@@ -243,5 +311,30 @@ public class RewardService {
 
         return blockchainClient.getOwnedNFTs(walletAddress);
     }
-}
 
+    /**
+     * 리워드 지급 요청 (아웃박스 ID + 사용자 + 활동 타입)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RewardIntent {
+        private final Long outboxId;
+        private final Long userId;
+        private final String activityType;
+    }
+
+    /**
+     * 민팅된 리워드 1건 (이력 저장에 필요한 값 + 트랜잭션 해시)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MintedReward {
+        private final Long outboxId;
+        private final Long userId;
+        private final String walletAddress;
+        private final String activityType;
+        private final double amount;
+        private final double balanceScore;
+        private final String transactionHash;
+    }
+}
@@ -0,0 +1,442 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.Asset;
+import com.mystockfolio.backend.repository.AssetRepository;
+import com.mystockfolio.backend.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 티커 → 보유자(userId, assetId, 수량, 매입가) 역인덱스
+ * - 가격이 움직였을 때 전체 사용자를 훑지 않고 해당 티커 보유자만 재평가하기 위한 용도
+ * - 기동 시 AssetRepository에서 한 번 적재하고, 이후 자산 변경은 커밋 후 반영
+ * - 변경은 HoldingsChangedEvent로 알려 다른 인스턴스에도 전파 (RedisEventRelay)
+ * - 보유 1건당 원시 타입 배열 4칸(약 32바이트) + assetId 해시 1칸으로 저장 (박싱 객체 없음)
+ * - assetId 해시에 (티커 번호, 목록 내 위치)를 함께 저장해 추가/수정/삭제가 O(1)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TickerHolderIndex {
+
+    private final AssetRepository assetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 기동 시 적재 묶음 크기
+    @Value("${holder-index.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 티커(대문자) → 티커 번호, 티커 번호 → 보유 목록
+    private final Map<String, Integer> tickerIds = new HashMap<>();
+    private final List<Holdings> holdingsByTicker = new ArrayList<>();
+
+    // assetId → (티커 번호 << 32 | 보유 목록 내 위치)
+    private final LongLongMap assetLocations = new LongLongMap(1024);
+
+    private volatile boolean ready;
+
+    // 적재 도중 삭제된 자산 (적재가 되살리지 않도록)
+    private final Set<Long> removedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    @FunctionalInterface
+    public interface HolderVisitor {
+        void visit(long userId, long assetId, double quantity, double avgBuyPrice);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<AssetRepository.HoldingView> rows =
+                        assetRepository.findHoldingsAfter(afterId, PageRequest.of(0, loadBatchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (AssetRepository.HoldingView row : rows) {
+                        long assetId = row.getAssetId();
+                        // 적재 중 이미 반영된 변경(더 최신)이나 삭제는 덮어쓰지 않음
+                        if (assetLocations.get(assetId) >= 0 || removedDuringLoad.contains(assetId)) {
+                            continue;
+                        }
+                        // 인덱스에 없는 자산이므로 기존 위치 확인 없이 바로 추가
+                        add(assetId, row.getUserId(), tickerIdOf(row.getTicker().toUpperCase()),
+                                row.getQuantity(), row.getAvgBuyPrice());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                loaded += rows.size();
+                afterId = rows.get(rows.size() - 1).getAssetId();
+            }
+            ready = true;
+            removedDuringLoad.clear();
+            log.info("티커 보유자 인덱스 적재 완료 - 보유 {}건, 티커 {}개, 소요: {}ms",
+                    loaded, tickerIds.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("티커 보유자 인덱스 적재 실패 (가격 변동 시 전체 스냅샷 재평가로 대체): {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 자산 추가/수정 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void onAssetSaved(Long userId, Asset asset) {
+        long assetId = asset.getId();
+        String ticker = asset.getTicker();
+        double quantity = asset.getQuantity();
+        double avgBuyPrice = asset.getAvgBuyPrice();
+        TransactionUtils.afterCommit(() -> {
+            applySaved(userId, assetId, ticker, quantity, avgBuyPrice);
+            eventPublisher.publishEvent(
+                    HoldingsChangedEvent.saved(userId, assetId, ticker, quantity, avgBuyPrice));
+        });
+    }
+
+    /**
+     * 자산 삭제 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void onAssetsDeleted(Long userId, Collection<Long> assetIds) {
+        List<Long> ids = new ArrayList<>(assetIds);
+        TransactionUtils.afterCommit(() -> {
+            applyDeleted(ids);
+            eventPublisher.publishEvent(HoldingsChangedEvent.deleted(userId, ids));
+        });
+    }
+
+    /**
+     * 이미 커밋된 자산 추가/수정 반영 (다른 인스턴스에서 전파된 변경)
+     */
+    public void applySaved(long userId, long assetId, String ticker, double quantity, double avgBuyPrice) {
+        lock.writeLock().lock();
+        try {
+            put(assetId, userId, ticker, quantity, avgBuyPrice);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이미 커밋된 자산 삭제 반영 (다른 인스턴스에서 전파된 변경)
+     */
+    public void applyDeleted(Collection<Long> assetIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long assetId : assetIds) {
+                remove(assetId);
+                if (!ready) {
+                    removedDuringLoad.add(assetId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 티커 보유자 순회 (읽기 잠금 중 호출되므로 visitor는 메모리 연산만 수행)
+     */
+    public void forEachHolder(String ticker, HolderVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            Integer tickerId = tickerIds.get(ticker.toUpperCase());
+            if (tickerId == null) {
+                return;
+            }
+            Holdings holdings = holdingsByTicker.get(tickerId);
+            for (int i = 0; i < holdings.size; i++) {
+                visitor.visit(holdings.userIds[i], holdings.assetIds[i], holdings.quantities[i], holdings.avgBuyPrices[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 티커를 보유한 사용자 ID (중복 제거)
+     */
+    public long[] holderUserIds(String ticker) {
+        lock.readLock().lock();
+        try {
+            Integer tickerId = tickerIds.get(ticker.toUpperCase());
+            if (tickerId == null) {
+                return new long[0];
+            }
+            Holdings holdings = holdingsByTicker.get(tickerId);
+            long[] userIds = Arrays.copyOf(holdings.userIds, holdings.size);
+            Arrays.sort(userIds);
+            int distinct = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                if (i == 0 || userIds[i] != userIds[i - 1]) {
+                    userIds[distinct++] = userIds[i];
+                }
+            }
+            return Arrays.copyOf(userIds, distinct);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("tickers", tickerIds.size());
+            stats.put("holdings", assetLocations.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 보유 상태에서 호출
+    private void put(long assetId, long userId, String ticker, double quantity, double avgBuyPrice) {
+        int tickerId = tickerIdOf(ticker.toUpperCase());
+        long location = assetLocations.get(assetId);
+        if (location >= 0) {
+            if (tickerOf(location) == tickerId) {
+                holdingsByTicker.get(tickerId).set(slotOf(location), userId, quantity, avgBuyPrice);
+                return;
+            }
+            // 티커가 바뀐 자산은 기존 티커 목록에서 제거
+            removeAt(tickerOf(location), slotOf(location));
+        }
+        add(assetId, userId, tickerId, quantity, avgBuyPrice);
+    }
+
+    // 쓰기 잠금 보유 상태에서 호출 (인덱스에 없는 자산)
+    private void add(long assetId, long userId, int tickerId, double quantity, double avgBuyPrice) {
+        int slot = holdingsByTicker.get(tickerId).add(userId, assetId, quantity, avgBuyPrice);
+        assetLocations.put(assetId, locationOf(tickerId, slot));
+    }
+
+    // 쓰기 잠금 보유 상태에서 호출
+    private void remove(long assetId) {
+        long location = assetLocations.remove(assetId);
+        if (location >= 0) {
+            removeAt(tickerOf(location), slotOf(location));
+        }
+    }
+
+    // 목록에서 제거하고, 빈 자리로 옮겨진 마지막 항목의 위치를 갱신
+    private void removeAt(int tickerId, int slot) {
+        long movedAssetId = holdingsByTicker.get(tickerId).removeAt(slot);
+        if (movedAssetId != 0) {
+            assetLocations.put(movedAssetId, locationOf(tickerId, slot));
+        }
+    }
+
+    private static long locationOf(int tickerId, int slot) {
+        return ((long) tickerId << 32) | (slot & 0xFFFFFFFFL);
+    }
+
+    private static int tickerOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int slotOf(long location) {
+        return (int) location;
+    }
+
+    private int tickerIdOf(String ticker) {
+        Integer tickerId = tickerIds.get(ticker);
+        if (tickerId == null) {
+            tickerId = holdingsByTicker.size();
+            tickerIds.put(ticker, tickerId);
+            holdingsByTicker.add(new Holdings());
+        }
+        return tickerId;
+    }
+
+    /**
+     * 커밋된 보유 변경 (저장: assetId/ticker/수량/매입가, 삭제: deletedAssetIds)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class HoldingsChangedEvent {
+        private final Long userId;
+        private final Long assetId;
+        private final String ticker;
+        private final double quantity;
+        private final double avgBuyPrice;
+        private final List<Long> deletedAssetIds;
+
+        static HoldingsChangedEvent saved(Long userId, long assetId, String ticker, double quantity, double avgBuyPrice) {
+            return new HoldingsChangedEvent(userId, assetId, ticker, quantity, avgBuyPrice, List.of());
+        }
+
+        static HoldingsChangedEvent deleted(Long userId, List<Long> assetIds) {
+            return new HoldingsChangedEvent(userId, null, null, 0, 0, assetIds);
+        }
+
+        public boolean isDeletion() {
+            return assetId == null;
+        }
+    }
+
+    /**
+     * 한 티커의 보유 목록 (열 단위 원시 타입 배열, 삭제 시 마지막 항목으로 채움)
+     * - 위치는 assetLocations가 관리하므로 탐색 없이 위치로 접근
+     */
+    private static final class Holdings {
+        private long[] userIds = new long[4];
+        private long[] assetIds = new long[4];
+        private double[] quantities = new double[4];
+        private double[] avgBuyPrices = new double[4];
+        private int size;
+
+        // 끝에 추가하고 위치 반환
+        int add(long userId, long assetId, double quantity, double avgBuyPrice) {
+            if (size == assetIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                assetIds = Arrays.copyOf(assetIds, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+                avgBuyPrices = Arrays.copyOf(avgBuyPrices, capacity);
+            }
+            int slot = size++;
+            assetIds[slot] = assetId;
+            set(slot, userId, quantity, avgBuyPrice);
+            return slot;
+        }
+
+        void set(int slot, long userId, double quantity, double avgBuyPrice) {
+            userIds[slot] = userId;
+            quantities[slot] = quantity;
+            avgBuyPrices[slot] = avgBuyPrice;
+        }
+
+        // 마지막 항목으로 빈 자리를 채우고, 옮겨진 항목의 assetId 반환 (마지막 항목을 지운 경우 0)
+        long removeAt(int slot) {
+            int last = --size;
+            if (slot == last) {
+                return 0L;
+            }
+            userIds[slot] = userIds[last];
+            assetIds[slot] = assetIds[last];
+            quantities[slot] = quantities[last];
+            avgBuyPrices[slot] = avgBuyPrices[last];
+            return assetIds[slot];
+        }
+    }
+
+    /**
+     * long → long 오픈 어드레싱 해시 (키 0은 빈 칸, 값이 없으면 -1)
+     * - 충돌/삭제 동작 테스트를 위해 패키지 내 공개
+     */
+    static final class LongLongMap {
+        private long[] keys;
+        private long[] values;
+        private int size;
+
+        LongLongMap(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, long value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != 0) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        long remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                return -1;
+            }
+            long removed = values[i];
+            size--;
+            // 뒤따르는 항목을 당겨 탐색 경로 유지 (backward shift)
+            int gap = i;
+            for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            keys[gap] = 0;
+            return removed;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[capacity];
+            values = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mystockfolio.backend.service;
 
+import com.mystockfolio.backend.domain.entity.Asset;
 import com.mystockfolio.backend.domain.entity.Portfolio;
 import com.mystockfolio.backend.domain.entity.RewardHistory;
 import com.mystockfolio.backend.domain.entity.User;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,6 +28,10 @@ public class UserService {
     private final PortfolioRepository portfolioRepository;
     private final RewardHistoryRepository rewardHistoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PortfolioValuationService valuationService;
+    private final TickerHolderIndex holderIndex;
+    private final CustomUserDetailsService userDetailsService;
+    private final AchievementThresholdIndex thresholdIndex;
 
     // 사용자 프로필 조회
     @Transactional(readOnly = true)
@@ -76,6 +82,9 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        userDetailsService.evict(savedUser);
+        // 지갑 주소가 바뀌었을 수 있으므로 성과 기준 추적 중단 (다음 성과 판정 때 다시 추적)
+        thresholdIndex.untrack(savedUser.getUserId());
 
         return UserDto.ProfileResponse.builder()
                 .userId(savedUser.getUserId())
@@ -128,6 +137,9 @@ public class UserService {
             log.info("사용자 포트폴리오 {}개 삭제 시작", portfolios.size());        
             // 각 포트폴리오를 개별적으로 삭제 (Cascade로 자산도 자동 삭제됨)
             for (Portfolio portfolio : portfolios) {
+                holderIndex.onAssetsDeleted(userId, portfolio.getAssets().stream()
+                        .map(Asset::getId)
+                        .collect(Collectors.toList()));
                 portfolioRepository.delete(portfolio);
             }
             log.info("사용자 포트폴리오 삭제 완료");
@@ -137,6 +149,8 @@ public class UserService {
 
         // 사용자 삭제
         userRepository.delete(user);
+        valuationService.invalidate(userId);
+        userDetailsService.evict(user);
         log.info("계정 삭제 완료 - userId: {}", userId);
     }
 
@@ -165,6 +179,9 @@ public class UserService {
             log.info("사용자 포트폴리오 {}개 삭제 시작", portfolios.size());        
             // 각 포트폴리오를 개별적으로 삭제 (Cascade로 자산도 자동 삭제됨)
             for (Portfolio portfolio : portfolios) {
+                holderIndex.onAssetsDeleted(userId, portfolio.getAssets().stream()
+                        .map(Asset::getId)
+                        .collect(Collectors.toList()));
                 portfolioRepository.delete(portfolio);
             }
             log.info("사용자 포트폴리오 삭제 완료");
@@ -174,6 +191,8 @@ public class UserService {
 
         // 사용자 삭제
         userRepository.delete(user);
+        valuationService.invalidate(userId);
+        userDetailsService.evict(user);
         log.info("계정 삭제 완료 - userId: {}", userId);
     }
 }
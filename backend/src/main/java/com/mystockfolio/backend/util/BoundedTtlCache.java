@@ -0,0 +1,170 @@
+package com.mystockfolio.backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+
+/**
+ * 크기 제한 + 항목별 TTL을 가진 로컬(JVM) 캐시 (근사 LRU)
+ * - ConcurrentHashMap 기반: 조회/저장에 전역 락이 없음 (조회 시 항목의 마지막 사용 시각만 갱신)
+ * - 최대 크기를 넘으면 한 스레드만 정리: 만료 항목 → 오래 사용되지 않은 항목 순으로 최대 크기의 90%까지 제거
+ *   → 정리는 최대 크기의 10%가 추가될 때마다 한 번 (정리 중 동시에 저장된 항목만큼 잠시 최대 크기를 넘을 수 있음)
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final int maxSize;
+    private final int trimTarget;
+    private final ConcurrentHashMap<K, Node<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedTtlCache(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.trimTarget = this.maxSize - this.maxSize / 10;
+    }
+
+    /**
+     * 만료되지 않은 값 조회 (없거나 만료되면 null, 만료 항목은 제거)
+     */
+    public V get(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (node.expiresAt <= now) {
+            if (entries.remove(key, node)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        // 같은 밀리초 안의 반복 조회는 쓰기 생략 (인기 항목의 캐시 라인 경합 방지)
+        if (node.lastAccess != now) {
+            node.lastAccess = now;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    /**
+     * TTL을 지정해 저장 (ttlMillis가 0 이하면 저장하지 않음)
+     */
+    public void put(K key, V value, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = ttlMillis >= NO_EXPIRY - now ? NO_EXPIRY : now + ttlMillis;
+        entries.put(key, new Node<>(value, expiresAt, now));
+        trimIfNeeded();
+    }
+
+    /**
+     * 만료 없이 저장 (크기 초과 시에만 제거)
+     */
+    public void put(K key, V value) {
+        put(key, value, NO_EXPIRY);
+    }
+
+    /**
+     * 기존 값과 합쳐 저장 (기존 값이 없거나 만료되었으면 value를 만료 없이 저장)
+     */
+    public void merge(K key, V value, BinaryOperator<V> remapping) {
+        long now = System.currentTimeMillis();
+        entries.merge(key, new Node<>(value, NO_EXPIRY, now), (current, added) -> current.expiresAt <= now
+                ? added
+                : new Node<>(remapping.apply(current.value, added.value), current.expiresAt, now));
+        trimIfNeeded();
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 통계 (크기 / hit / miss / eviction / expiration)
+     */
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("hitRate", total > 0 ? (double) hitCount / total : 0.0);
+        return stats;
+    }
+
+    private void trimIfNeeded() {
+        if (entries.size() <= maxSize || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Node<V>> entry : entries.entrySet()) {
+                Node<V> node = entry.getValue();
+                if (node.expiresAt <= now) {
+                    if (entries.remove(entry.getKey(), node)) {
+                        expirations.increment();
+                    }
+                } else {
+                    // 정렬 중 값이 바뀌지 않도록 마지막 사용 시각을 복사해 둠
+                    candidates.add(new Candidate<>(entry.getKey(), node, node.lastAccess));
+                }
+            }
+
+            int excess = entries.size() - trimTarget;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < candidates.size() && excess > 0; i++) {
+                Candidate<K, V> candidate = candidates.get(i);
+                if (entries.remove(candidate.key, candidate.node)) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static final class Node<V> {
+        final V value;
+        final long expiresAt;
+        volatile long lastAccess;
+
+        Node(V value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private record Candidate<K, V>(K key, Node<V> node, long lastAccess) {
+    }
+}
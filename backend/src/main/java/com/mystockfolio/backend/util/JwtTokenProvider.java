@@ -14,8 +14,19 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * JWT 발급/검증
+ * - parseValidClaims: 서명 검증 + 파싱을 한 번에 수행하고 검증된 Claims 반환 (요청당 1회 호출)
+ * - 검증된 토큰은 SHA-256 해시 → Claims로 잠시 보관 (근사 LRU, 조회 경로에 전역 락 없음)
+ *   → 같은 토큰의 반복 요청은 HMAC 검증·JSON 파싱 없이 해시 1회로 처리, 토큰 원문은 보관하지 않음
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
@@ -26,12 +37,23 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration-ms}")
     private long jwtExpirationMs;
 
+    // 검증 결과 캐시 크기 (0이면 사용 안 함) / 보관 시간 (토큰 만료 시각을 넘지 않음)
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    @Value("${jwt.claims-cache.ttl-seconds:300}")
+    private long claimsCacheTtlSeconds;
+
     private SecretKey key;
 
+    // 캐시를 사용하지 않으면 null
+    private BoundedTtlCache<String, Claims> claimsCache;
+
     @PostConstruct
     public void init() {
         // Base64 인코딩된 시크릿 키를 디코딩하지 않고 바로 바이트 배열로 사용
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.claimsCache = claimsCacheMaxEntries > 0 ? new BoundedTtlCache<>(claimsCacheMaxEntries) : null;
     }
 
     // 이메일을 기반으로 JWT 토큰 생성
@@ -53,15 +75,38 @@ public class JwtTokenProvider {
         return generateToken(userId.toString());
     }
 
-    // JWT 토큰에서 이메일 추출
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 서명/만료를 검증하고 Claims 반환 (유효하지 않으면 null)
+     */
+    public Claims parseValidClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        if (claimsCache == null) {
+            return verify(token);
+        }
 
-        return claims.getSubject();
+        String cacheKey = sha256(token);
+        Claims cached = claimsCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        if (claims != null) {
+            long ttlMillis = claimsCacheTtlSeconds * 1000;
+            if (claims.getExpiration() != null) {
+                ttlMillis = Math.min(ttlMillis, claims.getExpiration().getTime() - System.currentTimeMillis());
+            }
+            claimsCache.put(cacheKey, claims, ttlMillis);
+        }
+        return claims;
+    }
+
+    // JWT 토큰에서 이메일 추출 (유효하지 않으면 null)
+    public String getEmailFromToken(String token) {
+        Claims claims = parseValidClaims(token);
+        return claims == null ? null : claims.getSubject();
     }
 
     // 하위 호환성을 위한 메서드 (userId 기반)
@@ -73,9 +118,23 @@ public class JwtTokenProvider {
 
     // JWT 토큰 유효성 검증
     public boolean validateToken(String authToken) {
+        return parseValidClaims(authToken) != null;
+    }
+
+    public Map<String, Object> getClaimsCacheStats() {
+        if (claimsCache == null) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("size", 0);
+            stats.put("maxSize", 0);
+            return stats;
+        }
+        return claimsCache.stats();
+    }
+
+    // 서명 검증 + 파싱 (HMAC 연산)
+    private Claims verify(String authToken) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(authToken);
-            return true;
+            return Jwts.parser().verifyWith(key).build().parseSignedClaims(authToken).getPayload();
         } catch (SecurityException | MalformedJwtException ex) {
             log.error("Invalid JWT signature");
         } catch (ExpiredJwtException ex) {
@@ -85,6 +144,15 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty.");
         }
-        return false;
+        return null;
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
\ No newline at end of file
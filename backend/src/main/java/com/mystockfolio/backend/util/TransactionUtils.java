@@ -0,0 +1,42 @@
+package com.mystockfolio.backend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    // 커밋 후 콜백을 실행 중인 스레드 표시
+    // (이 단계에서 새로 등록한 동기화는 실행되지 않고 버려지므로, 콜백 안에서 다시 호출하면 즉시 실행)
+    private static final ThreadLocal<Boolean> RUNNING_AFTER_COMMIT = new ThreadLocal<>();
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 실행 (롤백 시 실행 안 함)
+     * - 트랜잭션 밖(실제 트랜잭션 없이 동기화만 켜진 경우 포함)에서 호출하면 즉시 실행
+     * - 다른 커밋 후 콜백 안에서 호출하면 이미 커밋된 상태이므로 즉시 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || Boolean.TRUE.equals(RUNNING_AFTER_COMMIT.get())) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boolean nested = Boolean.TRUE.equals(RUNNING_AFTER_COMMIT.get());
+                RUNNING_AFTER_COMMIT.set(Boolean.TRUE);
+                try {
+                    action.run();
+                } finally {
+                    if (!nested) {
+                        RUNNING_AFTER_COMMIT.remove();
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.Asset;
+import com.mystockfolio.backend.domain.entity.AssetType;
+import com.mystockfolio.backend.domain.entity.Portfolio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AchievementThresholdIndexTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private AchievementThresholdIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시 가격 없음(mock 기본값: 빈 Map) → 추적 시작 시 매입가로 평가
+        index = new AchievementThresholdIndex(mock(PriceTickBus.class), mock(MarketPriceCacheService.class), events::add);
+        ReflectionTestUtils.setField(index, "maxUsers", 100);
+    }
+
+    @Test
+    void crossingTriggerPricePublishesOncePerThreshold() {
+        // 10주 @100 → 10% 기준 가격 110
+        index.track(1L, "0xabc", List.of(portfolio(asset(1L, "AAPL", 10.0, 100.0))), false);
+
+        tick("AAPL", 109.0);
+        assertThat(events).isEmpty();
+
+        tick("AAPL", 111.0);
+        assertThat(crossedUserIds()).containsExactly(1L);
+
+        // 다음 기준(20%, 기준 가격 120)까지는 다시 알리지 않음
+        events.clear();
+        tick("AAPL", 115.0);
+        assertThat(events).isEmpty();
+
+        tick("AAPL", 125.0);
+        assertThat(crossedUserIds()).containsExactly(1L);
+    }
+
+    @Test
+    void gapIsSplitAcrossTickersByMarketValue() {
+        // 두 티커 각 1,000 → 목표 2,200, 티커별 몫 100 → 기준 가격 각 110
+        index.track(1L, "0xabc", List.of(portfolio(
+                asset(1L, "AAPL", 10.0, 100.0),
+                asset(2L, "MSFT", 10.0, 100.0))), false);
+
+        // 한 티커가 내려가면 다른 티커가 기준 가격을 넘어도 합계는 기준 미달
+        tick("MSFT", 90.0);
+        tick("AAPL", 115.0);
+        assertThat(events).isEmpty();
+
+        // 재설정된 기준 가격을 넘어 합계가 10% 이상이 되면 알림
+        tick("AAPL", 135.0);
+        assertThat(crossedUserIds()).containsExactly(1L);
+    }
+
+    @Test
+    void untrackedOrUnrelatedTickersDoNotTrigger() {
+        index.track(1L, "0xabc", List.of(portfolio(asset(1L, "AAPL", 10.0, 100.0))), false);
+        index.track(2L, "0xdef", List.of(portfolio(asset(2L, "AAPL", 10.0, 200.0))), false);
+
+        // 2번 사용자의 기준 가격은 220
+        tick("AAPL", 150.0);
+        assertThat(crossedUserIds()).containsExactly(1L);
+
+        events.clear();
+        index.untrack(2L);
+        tick("AAPL", 500.0);
+        tick("MSFT", 500.0);
+        assertThat(crossedUserIds()).containsExactly(1L);
+        assertThat(index.getStats()).containsEntry("trackedUsers", 0);
+    }
+
+    private void tick(String ticker, double price) {
+        index.onPriceTicks(List.of(new PriceTickBus.PriceTick(ticker, price, System.currentTimeMillis(), "test")));
+    }
+
+    private List<Long> crossedUserIds() {
+        return events.stream()
+                .map(event -> ((AchievementThresholdIndex.ThresholdCrossedEvent) event).getUserId())
+                .toList();
+    }
+
+    private static Portfolio portfolio(Asset... assets) {
+        Portfolio portfolio = Portfolio.builder().name("test").build();
+        for (Asset asset : assets) {
+            portfolio.addAsset(asset);
+        }
+        return portfolio;
+    }
+
+    private static Asset asset(Long id, String ticker, double quantity, double avgBuyPrice) {
+        Asset asset = Asset.builder()
+                .assetType(AssetType.STOCK)
+                .ticker(ticker)
+                .name(ticker)
+                .quantity(quantity)
+                .avgBuyPrice(avgBuyPrice)
+                .build();
+        ReflectionTestUtils.setField(asset, "id", id);
+        return asset;
+    }
+}
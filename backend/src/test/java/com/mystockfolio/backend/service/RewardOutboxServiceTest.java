@@ -0,0 +1,127 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.domain.entity.RewardIntentType;
+import com.mystockfolio.backend.domain.entity.RewardOutbox;
+import com.mystockfolio.backend.domain.entity.RewardOutboxStatus;
+import com.mystockfolio.backend.repository.RewardOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RewardOutboxServiceTest {
+
+    private final RewardOutboxRepository outboxRepository = mock(RewardOutboxRepository.class);
+    private final DailyRewardTracker dailyRewardTracker = mock(DailyRewardTracker.class);
+    private RewardOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        // 일일 리워드 기록은 호출 스레드에서 바로 실행
+        service = new RewardOutboxService(outboxRepository, mock(RewardService.class), dailyRewardTracker,
+                Schedulers.immediate());
+        ReflectionTestUtils.setField(service, "backoffBaseSeconds", 5L);
+        ReflectionTestUtils.setField(service, "backoffMaxSeconds", 600L);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "leaseSeconds", 120L);
+    }
+
+    @Test
+    void claimCountsAttemptAndLeasesRow() {
+        RewardOutbox row = row(1L);
+        when(outboxRepository.lockDue(eq("PENDING"), any(), anyInt())).thenReturn(List.of(row));
+
+        service.claimDue(10);
+
+        assertThat(row.getStatus()).isEqualTo(RewardOutboxStatus.PENDING);
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(60));
+    }
+
+    @Test
+    void markMintedRecordsResultAndCompletesSkippedRows() {
+        RewardOutbox minted = row(1L);
+        RewardOutbox skipped = row(2L);
+        minted.claim(LocalDateTime.now());
+        when(outboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(minted, skipped));
+
+        service.markMinted(List.of(1L, 2L), List.of(new RewardService.MintedReward(
+                1L, 10L, "0xabc", "daily_login", 1.0, 0.5, "0xhash")));
+
+        // 민팅된 행: 트랜잭션 해시 기록 + 이력 저장 단계 시도 횟수 새로 셈
+        assertThat(minted.getStatus()).isEqualTo(RewardOutboxStatus.MINTED);
+        assertThat(minted.getTransactionHash()).isEqualTo("0xhash");
+        assertThat(minted.getAttempts()).isZero();
+        assertThat(skipped.getStatus()).isEqualTo(RewardOutboxStatus.DONE);
+    }
+
+    @Test
+    void markFailedRetriesInCurrentStageUntilMaxAttempts() {
+        RewardOutbox row = row(1L);
+        row.markMinted("0xhash", "0xabc", 1.0, 0.5, LocalDateTime.now());
+        row.claim(LocalDateTime.now());
+        when(outboxRepository.findAllById(List.of(1L))).thenReturn(List.of(row));
+
+        // 재시도: MINTED 유지 (이력 저장만 다시 시도, 다시 민팅하지 않음)
+        service.markFailed(List.of(1L), "db down");
+        assertThat(row.getStatus()).isEqualTo(RewardOutboxStatus.MINTED);
+        assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(row.getLastError()).isEqualTo("db down");
+
+        // 최대 시도 횟수 도달: FAILED (트랜잭션 해시는 대조용으로 남음)
+        row.claim(LocalDateTime.now());
+        row.claim(LocalDateTime.now());
+        service.markFailed(List.of(1L), "db down");
+        assertThat(row.getStatus()).isEqualTo(RewardOutboxStatus.FAILED);
+        assertThat(row.getTransactionHash()).isEqualTo("0xhash");
+    }
+
+    @Test
+    void releaseDoesNotCountAttempt() {
+        RewardOutbox row = row(1L);
+        row.claim(LocalDateTime.now().plusMinutes(2));
+        when(outboxRepository.findAllById(List.of(1L))).thenReturn(List.of(row));
+
+        service.release(List.of(1L));
+
+        assertThat(row.getAttempts()).isZero();
+        assertThat(row.getStatus()).isEqualTo(RewardOutboxStatus.PENDING);
+        assertThat(row.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    void enqueueDailySavesOncePerDayUnlessAlreadyRewarded() {
+        when(dailyRewardTracker.isMarkedToday(1L, "daily_login")).thenReturn(false);
+        when(dailyRewardTracker.isMarkedToday(2L, "daily_login")).thenReturn(true);
+
+        service.enqueueDaily(1L, "daily_login");
+        service.enqueueDaily(1L, "daily_login");
+        service.enqueueDaily(2L, "daily_login");
+
+        // 같은 날 같은 사용자/활동은 한 번만 확인, 이미 지급된 사용자는 기록하지 않음
+        verify(dailyRewardTracker, times(1)).isMarkedToday(1L, "daily_login");
+        verify(outboxRepository, times(1)).save(any(RewardOutbox.class));
+    }
+
+    private static RewardOutbox row(Long id) {
+        RewardOutbox row = RewardOutbox.builder()
+                .userId(10L)
+                .intentType(RewardIntentType.ACTIVITY_REWARD)
+                .activityType("daily_login")
+                .build();
+        ReflectionTestUtils.setField(row, "id", id);
+        return row;
+    }
+}
@@ -0,0 +1,152 @@
+package com.mystockfolio.backend.service;
+
+import com.mystockfolio.backend.repository.AssetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TickerHolderIndexTest {
+
+    private final TickerHolderIndex index =
+            new TickerHolderIndex(mock(AssetRepository.class), mock(ApplicationEventPublisher.class));
+
+    @Test
+    void longLongMapPutGetRemove() {
+        TickerHolderIndex.LongLongMap map = new TickerHolderIndex.LongLongMap(4);
+
+        assertThat(map.get(7L)).isEqualTo(-1L);
+        map.put(7L, 70L);
+        map.put(8L, 80L);
+        map.put(7L, 71L);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(7L)).isEqualTo(71L);
+        assertThat(map.remove(7L)).isEqualTo(71L);
+        assertThat(map.remove(7L)).isEqualTo(-1L);
+        assertThat(map.get(8L)).isEqualTo(80L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void longLongMapRemoveKeepsWrappedCollisionChainReachable() {
+        // 용량 16(최대 8개까지 크기 유지)에서 마지막 칸(15)이 시작 위치인 키 3개 + 0번 칸이 시작 위치인 키 1개
+        // → 15, 0, 1, 2번 칸에 배치되어 탐색 경로가 배열 끝에서 앞으로 넘어감
+        int mask = 15;
+        List<Long> lastSlotKeys = keysWithHomeSlot(15, mask, 3);
+        long firstSlotKey = keysWithHomeSlot(0, mask, 1).get(0);
+
+        TickerHolderIndex.LongLongMap map = new TickerHolderIndex.LongLongMap(16);
+        for (long key : lastSlotKeys) {
+            map.put(key, key * 10);
+        }
+        map.put(firstSlotKey, firstSlotKey * 10);
+
+        // 체인 맨 앞을 지우면 뒤따르는 항목(넘어간 항목 포함)이 당겨져야 함
+        assertThat(map.remove(lastSlotKeys.get(0))).isEqualTo(lastSlotKeys.get(0) * 10);
+        assertThat(map.get(lastSlotKeys.get(0))).isEqualTo(-1L);
+        assertThat(map.get(lastSlotKeys.get(1))).isEqualTo(lastSlotKeys.get(1) * 10);
+        assertThat(map.get(lastSlotKeys.get(2))).isEqualTo(lastSlotKeys.get(2) * 10);
+        assertThat(map.get(firstSlotKey)).isEqualTo(firstSlotKey * 10);
+
+        // 0번 칸이 시작 위치인 키는 자기 시작 위치보다 앞(15번 칸)으로 당겨지면 안 됨
+        assertThat(map.remove(lastSlotKeys.get(1))).isEqualTo(lastSlotKeys.get(1) * 10);
+        assertThat(map.get(lastSlotKeys.get(2))).isEqualTo(lastSlotKeys.get(2) * 10);
+        assertThat(map.get(firstSlotKey)).isEqualTo(firstSlotKey * 10);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void longLongMapMatchesHashMapUnderRandomOperations() {
+        // 작은 초기 용량으로 크기 확장과 삭제 후 재배치를 반복
+        TickerHolderIndex.LongLongMap map = new TickerHolderIndex.LongLongMap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.containsKey(key) ? expected.remove(key) : -1L);
+            } else {
+                long value = random.nextInt(1_000_000);
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 500; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+
+    @Test
+    void removeRelocatesLastHoldingAndKeepsItAddressable() {
+        index.applySaved(10L, 1L, "AAPL", 1.0, 100.0);
+        index.applySaved(20L, 2L, "AAPL", 2.0, 100.0);
+        index.applySaved(30L, 3L, "AAPL", 3.0, 100.0);
+
+        // 1번을 지우면 마지막 항목(3번)이 0번 위치로 옮겨짐
+        index.applyDeleted(List.of(1L));
+        assertThat(holders("AAPL")).containsExactly(Map.entry(3L, 3.0), Map.entry(2L, 2.0));
+
+        // 옮겨진 위치로 수정/삭제가 정확히 적용되어야 함
+        index.applySaved(30L, 3L, "AAPL", 5.0, 100.0);
+        assertThat(holders("AAPL")).containsExactly(Map.entry(3L, 5.0), Map.entry(2L, 2.0));
+
+        index.applyDeleted(List.of(3L));
+        assertThat(holders("AAPL")).containsExactly(Map.entry(2L, 2.0));
+        assertThat(index.getStats()).containsEntry("holdings", 1);
+    }
+
+    @Test
+    void tickerChangeMovesHoldingBetweenTickers() {
+        index.applySaved(10L, 1L, "AAPL", 1.0, 100.0);
+        index.applySaved(20L, 2L, "aapl", 2.0, 100.0);
+
+        index.applySaved(10L, 1L, "MSFT", 4.0, 300.0);
+
+        assertThat(holders("AAPL")).containsExactly(Map.entry(2L, 2.0));
+        assertThat(holders("msft")).containsExactly(Map.entry(1L, 4.0));
+
+        // 티커 변경으로 옮겨진 2번 자산도 삭제 가능
+        index.applyDeleted(List.of(2L));
+        assertThat(holders("AAPL")).isEmpty();
+        assertThat(index.getStats()).containsEntry("holdings", 1);
+    }
+
+    @Test
+    void holderUserIdsAreDistinct() {
+        index.applySaved(20L, 1L, "AAPL", 1.0, 100.0);
+        index.applySaved(10L, 2L, "AAPL", 1.0, 100.0);
+        index.applySaved(20L, 3L, "AAPL", 1.0, 100.0);
+
+        assertThat(index.holderUserIds("AAPL")).containsExactly(10L, 20L);
+        assertThat(index.holderUserIds("UNKNOWN")).isEmpty();
+    }
+
+    // 순회 순서(목록 내 위치) 그대로 assetId → 수량
+    private Map<Long, Double> holders(String ticker) {
+        Map<Long, Double> holders = new LinkedHashMap<>();
+        index.forEachHolder(ticker, (userId, assetId, quantity, avgBuyPrice) -> holders.put(assetId, quantity));
+        return holders;
+    }
+
+    private static List<Long> keysWithHomeSlot(int slot, int mask, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            if (TickerHolderIndex.LongLongMap.slot(key, mask) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
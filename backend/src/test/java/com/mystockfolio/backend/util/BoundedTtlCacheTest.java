@@ -0,0 +1,103 @@
+package com.mystockfolio.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    void putGetRemove() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10);
+
+        assertThat(cache.get("a")).isNull();
+        cache.put("a", 1, 60_000);
+        cache.put("b", 2);
+        cache.put("c", 3, 0);
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+        // TTL 0 이하는 저장하지 않음
+        assertThat(cache.get("c")).isNull();
+
+        cache.remove("a");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("hits", 2L).containsEntry("misses", 3L);
+    }
+
+    @Test
+    void expiredEntryIsRemovedOnGet() throws InterruptedException {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10);
+        cache.put("a", 1, 1);
+
+        Thread.sleep(5);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats()).containsEntry("expirations", 1L);
+    }
+
+    @Test
+    void mergeCombinesWithCurrentValue() {
+        BoundedTtlCache<Long, Integer> cache = new BoundedTtlCache<>(10);
+
+        cache.merge(1L, 0b001, (current, added) -> current | added);
+        cache.merge(1L, 0b100, (current, added) -> current | added);
+
+        assertThat(cache.get(1L)).isEqualTo(0b101);
+    }
+
+    @Test
+    void overflowEvictsLeastRecentlyUsedDownToTrimTarget() throws InterruptedException {
+        BoundedTtlCache<Integer, Integer> cache = new BoundedTtlCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+        // 0번을 마지막으로 사용 (사용 시각이 밀리초 단위라 잠시 대기)
+        Thread.sleep(5);
+        assertThat(cache.get(0)).isEqualTo(0);
+
+        // 11번째 항목 추가 → 최대 크기의 90%(9개)까지 정리
+        cache.put(10, 10);
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get(0)).isEqualTo(0);
+        assertThat(cache.get(10)).isEqualTo(10);
+        assertThat(cache.stats()).containsEntry("evictions", 2L);
+    }
+
+    @Test
+    void concurrentPutsStayNearMaxSize() throws Exception {
+        BoundedTtlCache<Integer, Integer> cache = new BoundedTtlCache<>(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 10_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        cache.put(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 정리 중 동시 저장분만큼만 넘을 수 있음 → 마지막 저장 이후에는 최대 크기 근처
+        cache.put(-1, -1);
+        assertThat(cache.size()).isLessThanOrEqualTo(1000);
+    }
+}
@@ -1,6 +1,8 @@
 from fastapi import FastAPI, HTTPException, status
+from fastapi.concurrency import run_in_threadpool
 from fastapi.middleware.cors import CORSMiddleware
 from typing import List, Dict, Optional
+import asyncio
 import logging
 from .models import KRStockInfo, KRStockQuote, BondInfo, IndexInfo
 from .crawler import KoreanStockCrawler, BondCrawler, IndexCrawler
@@ -66,6 +68,66 @@ async def get_kr_stock_quote(ticker: str):
         raise HTTPException(status_code=500, detail=f"Failed to fetch stock quote for '{ticker}'")
 
 
+MAX_BATCH_TICKERS = 100
+# 일괄 조회 시 동시에 크롤링하는 종목 수 (서비스 전체 공유, 요청 간 지연은 종목별로 유지)
+MAX_CONCURRENT_CRAWLS = 4
+# 일괄 조회 응답 기한(초): 백엔드 묶음 타임아웃(8초)보다 짧게 두고, 기한 내 조회된 종목만 반환
+BATCH_DEADLINE_SECONDS = 6.0
+
+crawl_semaphore = asyncio.Semaphore(MAX_CONCURRENT_CRAWLS)
+
+
+def _release_when_done(future: asyncio.Future) -> None:
+    # 스레드 작업이 실제로 끝난 시점에 슬롯 반환 (기한 초과로 취소돼도 스레드는 계속 실행되므로)
+    crawl_semaphore.release()
+    if not future.cancelled():
+        future.exception()  # 취소된 요청의 예외는 여기서 소비 (미조회 경고 방지)
+
+
+async def _fetch_quote_bounded(ticker: str) -> Optional[Dict]:
+    # 크롤링(요청 간 지연 포함)이 블로킹이므로 스레드풀에서 실행 (이벤트 루프 점유 방지)
+    await crawl_semaphore.acquire()
+    future = asyncio.ensure_future(run_in_threadpool(korean_stock_crawler.fetch_stock_quote, ticker))
+    future.add_done_callback(_release_when_done)
+    # shield: 요청 태스크가 취소돼도 슬롯은 스레드 작업 종료 시에만 반환
+    return await asyncio.shield(future)
+
+
+@app.get("/api/crawler/kr-stock/quotes", response_model=List[KRStockQuote], status_code=status.HTTP_200_OK)
+async def get_kr_stock_quotes(tickers: str):
+    """
+    한국 주식 시세 일괄 조회
+    tickers: 콤마로 구분된 6자리 숫자 티커 목록 (예: 005930,000660)
+    종목별로 동시에 조회하며, 조회에 실패했거나 응답 기한 내 끝나지 않은 티커는 결과에서 제외됩니다.
+    """
+    ticker_list = [t.strip() for t in tickers.split(",") if t.strip()]
+    logger.info(f"KR stock batch quote request for {len(ticker_list)} tickers")
+
+    if not ticker_list:
+        raise HTTPException(status_code=400, detail="tickers is required")
+    if len(ticker_list) > MAX_BATCH_TICKERS:
+        raise HTTPException(status_code=400, detail=f"At most {MAX_BATCH_TICKERS} tickers per request")
+
+    tasks = [asyncio.create_task(_fetch_quote_bounded(ticker)) for ticker in ticker_list]
+    done, pending = await asyncio.wait(tasks, timeout=BATCH_DEADLINE_SECONDS)
+    for task in pending:
+        task.cancel()
+    if pending:
+        logger.warning(f"KR stock batch quote deadline exceeded: {len(pending)} tickers skipped")
+
+    results = []
+    for ticker, task in zip(ticker_list, tasks):
+        if task not in done:
+            continue
+        try:
+            data = task.result()
+            if data:
+                results.append(KRStockQuote(**data))
+        except Exception as e:
+            logger.warning(f"Skipping KR stock quote for {ticker}: {str(e)}")
+    return results
+
+
 @app.get("/api/crawler/kr-stock/financial/{ticker}", response_model=Dict, status_code=status.HTTP_200_OK)
 async def get_kr_stock_financial(ticker: str):
     """
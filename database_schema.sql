@@ -80,6 +80,26 @@ CREATE TABLE IF NOT EXISTS achievement_history (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 2.6. reward_outbox 테이블 (블록체인 작업 아웃박스)
+-- 리워드를 발생시킨 변경과 같은 트랜잭션에서 기록, 디스패처가 SKIP LOCKED로 가져가 처리 (MySQL 8.0+)
+CREATE TABLE IF NOT EXISTS reward_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT 'User 테이블 외래키',
+    intent_type VARCHAR(30) NOT NULL COMMENT '작업 유형 (ACTIVITY_REWARD)',
+    activity_type VARCHAR(50) NOT NULL COMMENT '활동 타입 (asset_added, portfolio_updated, dashboard_analysis 등)',
+    status VARCHAR(15) NOT NULL COMMENT '처리 상태 (PENDING, MINTED, DONE, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수',
+    next_attempt_at DATETIME(6) NOT NULL COMMENT '다음 처리 시각 (재시도 백오프 / 처리 중 점유 만료)',
+    last_error VARCHAR(500) NULL COMMENT '마지막 오류 메시지',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 시간',
+    processed_at DATETIME(6) NULL COMMENT '완료/실패 처리 시간',
+    transaction_hash VARCHAR(66) NULL COMMENT '민팅 트랜잭션 해시 (MINTED 이후)',
+    wallet_address VARCHAR(42) NULL COMMENT '민팅 대상 지갑 주소 (MINTED 이후)',
+    amount DOUBLE NULL COMMENT '민팅 수량 (MINTED 이후)',
+    balance_score DOUBLE NULL COMMENT '민팅 당시 균형 점수 (MINTED 이후)',
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- ========================================
 -- 3. 인덱스 생성 (성능 최적화)
 -- ========================================
@@ -97,8 +117,27 @@ CREATE INDEX idx_asset_ticker ON asset(ticker);
 CREATE INDEX idx_asset_type ON asset(asset_type);
 
 -- reward_history, achievement_history 인덱스
-CREATE INDEX idx_reward_history_user_id ON reward_history(user_id);
+-- 일일 지급 여부 확인: WHERE user_id IN (...) AND activity_type = ? AND created_at >= ? AND created_at < ?
+-- (user_id 단독 인덱스는 이 인덱스의 앞부분으로 대체, 외래키도 이 인덱스 사용)
+-- 기존 DB 적용:
+--   CREATE INDEX idx_reward_history_user_activity_created ON reward_history(user_id, activity_type, created_at);
+--   DROP INDEX idx_reward_history_user_id ON reward_history;
+CREATE INDEX idx_reward_history_user_activity_created ON reward_history(user_id, activity_type, created_at);
 CREATE INDEX idx_reward_history_created_at ON reward_history(created_at);
-CREATE INDEX idx_achievement_history_user_id ON achievement_history(user_id);
+-- 히스토리 커서 페이지: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT n
+-- (achievement_history의 user_id 단독 인덱스는 이 인덱스의 앞부분으로 대체)
+-- 기존 DB 적용:
+--   CREATE INDEX idx_reward_history_user_created_id ON reward_history(user_id, created_at, id);
+--   CREATE INDEX idx_achievement_history_user_created_id ON achievement_history(user_id, created_at, id);
+--   DROP INDEX idx_achievement_history_user_id ON achievement_history;
+CREATE INDEX idx_reward_history_user_created_id ON reward_history(user_id, created_at, id);
+CREATE INDEX idx_achievement_history_user_created_id ON achievement_history(user_id, created_at, id);
 CREATE INDEX idx_achievement_history_type ON achievement_history(achievement_type);
+-- 중복 발행 확인: WHERE user_id = ? AND achievement_type = ? (인덱스만 읽음, metadata 로딩 없음)
+-- 기존 DB 적용:
+--   CREATE INDEX idx_achievement_history_user_type ON achievement_history(user_id, achievement_type);
+CREATE INDEX idx_achievement_history_user_type ON achievement_history(user_id, achievement_type);
+
+-- reward_outbox 인덱스 (디스패처: status = 'PENDING' AND next_attempt_at <= NOW() 범위 조회)
+CREATE INDEX idx_reward_outbox_status_next ON reward_outbox(status, next_attempt_at);
 
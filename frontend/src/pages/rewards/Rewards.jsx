@@ -8,6 +8,9 @@ const Rewards = () => {
   const [tokenBalance, setTokenBalance] = useState(null);
   const [rewardHistory, setRewardHistory] = useState([]);
   const [achievementHistory, setAchievementHistory] = useState([]);
+  // 다음 페이지 커서 (null이면 마지막 페이지)
+  const [rewardCursor, setRewardCursor] = useState(null);
+  const [achievementCursor, setAchievementCursor] = useState(null);
   const [loading, setLoading] = useState(true);
   const [selectedTab, setSelectedTab] = useState('all');
   const [selectedTransaction, setSelectedTransaction] = useState(null);
@@ -452,12 +455,38 @@ const Rewards = () => {
       const achievementResponse = await axiosInstance.get('/api/blockchain/achievement/history');
       if (achievementResponse.data?.achievements) {
         setAchievementHistory(achievementResponse.data.achievements);
+        setAchievementCursor(achievementResponse.data.nextCursor || null);
       }
     } catch (error) {
       console.error('NFT 히스토리 조회 실패:', error);
     }
   };
 
+  // 히스토리 더 보기 (커서 페이지)
+  const loadMoreRewards = async () => {
+    try {
+      const response = await axiosInstance.get('/api/blockchain/reward/history', {
+        params: { cursor: rewardCursor }
+      });
+      setRewardHistory(prev => [...prev, ...(response.data?.rewards || [])]);
+      setRewardCursor(response.data?.nextCursor || null);
+    } catch (error) {
+      console.error('리워드 히스토리 조회 실패:', error);
+    }
+  };
+
+  const loadMoreAchievements = async () => {
+    try {
+      const response = await axiosInstance.get('/api/blockchain/achievement/history', {
+        params: { cursor: achievementCursor }
+      });
+      setAchievementHistory(prev => [...prev, ...(response.data?.achievements || [])]);
+      setAchievementCursor(response.data?.nextCursor || null);
+    } catch (error) {
+      console.error('NFT 히스토리 조회 실패:', error);
+    }
+  };
+
   useEffect(() => {
     if (!isLoggedIn || !userInfo?.walletAddress) {
       setLoading(false);
@@ -484,10 +513,12 @@ const Rewards = () => {
         
         if (historyResponse.data?.rewards) {
           setRewardHistory(historyResponse.data.rewards);
+          setRewardCursor(historyResponse.data.nextCursor || null);
         }
         
         if (achievementResponse.data?.achievements) {
           setAchievementHistory(achievementResponse.data.achievements);
+          setAchievementCursor(achievementResponse.data.nextCursor || null);
         }
         } catch (error) {
         console.error('리워드 데이터 조회 실패:', error);
@@ -761,6 +792,23 @@ const Rewards = () => {
               </div>
             ))}
 
+            {(selectedTab === 'all' || selectedTab === 'reward') && rewardCursor && (
+              <button
+                onClick={loadMoreRewards}
+                className="w-full py-2 text-sm text-gray-600 bg-gray-100 rounded-md hover:bg-gray-200 transition-colors"
+              >
+                리워드 더 보기
+              </button>
+            )}
+            {(selectedTab === 'all' || selectedTab === 'nft') && achievementCursor && (
+              <button
+                onClick={loadMoreAchievements}
+                className="w-full py-2 text-sm text-gray-600 bg-gray-100 rounded-md hover:bg-gray-200 transition-colors"
+              >
+                NFT 더 보기
+              </button>
+            )}
+
             {selectedTab === 'all' && rewardHistory.length === 0 && achievementHistory.length === 0 && (
               <div className="text-center py-8">
                 <p className="text-sm text-gray-500 mb-2">아직 받은 리워드나 NFT가 없습니다.</p>
@@ -1,6 +1,8 @@
 from fastapi import FastAPI, HTTPException, status
+from fastapi.concurrency import run_in_threadpool
 from fastapi.middleware.cors import CORSMiddleware
-from typing import List, Dict
+from typing import List, Dict, Optional
+import asyncio
 import logging
 from .models import PriceResponse, ChartResponse, DetailedQuoteResponse, PopularItem, SuggestItem, ChartPoint
 from .service import MarketDataService
@@ -44,6 +46,70 @@ async def get_current_price(ticker: str):
         logger.error(f"Error fetching price for {ticker}: {str(e)}")
         raise HTTPException(status_code=500, detail=f"Failed to fetch price data for '{ticker}'")
 
+MAX_BATCH_TICKERS = 100
+# 일괄 조회 시 동시에 외부 API를 호출하는 티커 수 (서비스 전체 공유)
+MAX_CONCURRENT_FETCHES = 8
+# 일괄 조회 응답 기한(초): 백엔드 묶음 타임아웃(8초)보다 짧게 두고, 기한 내 조회된 티커만 반환
+BATCH_DEADLINE_SECONDS = 6.0
+
+fetch_semaphore = asyncio.Semaphore(MAX_CONCURRENT_FETCHES)
+
+
+def _release_when_done(future: asyncio.Future) -> None:
+    # 스레드 작업이 실제로 끝난 시점에 슬롯 반환 (기한 초과로 취소돼도 스레드는 계속 실행되므로)
+    fetch_semaphore.release()
+    if not future.cancelled():
+        future.exception()  # 취소된 요청의 예외는 여기서 소비 (미조회 경고 방지)
+
+
+async def _fetch_price_bounded(ticker: str) -> Optional[Dict]:
+    # 제공자 호출이 블로킹이므로 스레드풀에서 실행 (이벤트 루프 점유 방지)
+    await fetch_semaphore.acquire()
+    future = asyncio.ensure_future(run_in_threadpool(service.fetch_price, ticker))
+    future.add_done_callback(_release_when_done)
+    try:
+        # shield: 요청 태스크가 취소돼도 슬롯은 스레드 작업 종료 시에만 반환
+        return await asyncio.shield(future)
+    except ValueError:
+        logger.warning(f"Skipping ticker without price data: {ticker}")
+        return None
+
+
+@app.get("/api/market/prices", response_model=List[PriceResponse], status_code=status.HTTP_200_OK)
+async def get_current_prices(tickers: str):
+    # tickers: 콤마로 구분된 티커 목록 (예: AAPL,MSFT,BTC-USD)
+    ticker_list = [t.strip() for t in tickers.split(",") if t.strip()]
+    logger.info(f"Batch price request received for {len(ticker_list)} tickers")
+
+    if not ticker_list:
+        raise HTTPException(status_code=400, detail="tickers is required")
+    if len(ticker_list) > MAX_BATCH_TICKERS:
+        raise HTTPException(status_code=400, detail=f"At most {MAX_BATCH_TICKERS} tickers per request")
+
+    try:
+        # 티커별로 동시에 조회하고, 기한이 지나면 완료된 티커만 반환 (부분 성공 허용)
+        tasks = [asyncio.create_task(_fetch_price_bounded(ticker)) for ticker in ticker_list]
+        done, pending = await asyncio.wait(tasks, timeout=BATCH_DEADLINE_SECONDS)
+        for task in pending:
+            task.cancel()
+        if pending:
+            logger.warning(f"Batch price deadline exceeded: {len(pending)} tickers skipped")
+
+        data = []
+        for ticker, task in zip(ticker_list, tasks):
+            if task not in done:
+                continue
+            if task.exception() is not None:
+                logger.warning(f"Skipping ticker after fetch error: {ticker} ({str(task.exception())})")
+                continue
+            if task.result() is not None:
+                data.append(task.result())
+        logger.info(f"Batch price fetched: {len(data)}/{len(ticker_list)}")
+        return [PriceResponse(**item) for item in data]
+    except Exception as e:
+        logger.error(f"Error fetching batch prices: {str(e)}")
+        raise HTTPException(status_code=500, detail="Failed to fetch batch price data")
+
 @app.get("/api/market/chart", response_model=ChartResponse, status_code=status.HTTP_200_OK)
 async def get_historical_chart(ticker: str, period: str = "7d"):
     logger.info(f"Chart request received for ticker: {ticker}, period: {period}")